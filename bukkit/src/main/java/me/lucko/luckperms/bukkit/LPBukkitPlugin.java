@@ -283,6 +283,9 @@ public class LPBukkitPlugin extends AbstractLuckPermsPlugin {
             });
         }
 
+        // invalidate cached permission subscriptions when data is recalculated
+        getApiProvider().getEventBus().subscribe(new LuckPermsSubscriptionMap.InvalidationListener(this));
+
         // register autoop listener
         if (getConfiguration().get(ConfigKeys.AUTO_OP)) {
             getApiProvider().getEventBus().subscribe(new BukkitAutoOpListener(this));
@@ -26,24 +26,27 @@
 package me.lucko.luckperms.bukkit.calculator;
 
 import me.lucko.luckperms.bukkit.LPBukkitPlugin;
+import me.lucko.luckperms.bukkit.inject.server.LuckPermsPermissionMap;
+import me.lucko.luckperms.bukkit.inject.server.LuckPermsPermissionMap.ChildPermissionResults;
 import me.lucko.luckperms.common.calculator.processor.AbstractPermissionProcessor;
 import me.lucko.luckperms.common.calculator.processor.PermissionProcessor;
 import me.lucko.luckperms.common.calculator.result.TristateResult;
 
-import net.luckperms.api.util.Tristate;
-
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Permission Processor for Bukkits "child" permission system.
  */
 public class ChildProcessor extends AbstractPermissionProcessor implements PermissionProcessor {
-    private static final TristateResult.Factory RESULT_FACTORY = new TristateResult.Factory(ChildProcessor.class);
-
     private final LPBukkitPlugin plugin;
-    private Map<String, TristateResult> childPermissions = Collections.emptyMap();
+
+    // the (shared) child permission results for every entry in the source map
+    private volatile List<ChildPermissionResults> entries = Collections.emptyList();
+    // the entries which have children, used for lookups
+    private volatile List<Map<String, TristateResult>> childPermissions = Collections.emptyList();
 
     public ChildProcessor(LPBukkitPlugin plugin) {
         this.plugin = plugin;
@@ -51,23 +54,42 @@ public class ChildProcessor extends AbstractPermissionProcessor implements Permi
 
     @Override
     public TristateResult hasPermission(String permission) {
-        return this.childPermissions.getOrDefault(permission, TristateResult.UNDEFINED);
+        // later entries take priority, so search backwards
+        List<Map<String, TristateResult>> childPermissions = this.childPermissions;
+        for (int i = childPermissions.size() - 1; i >= 0; i--) {
+            TristateResult result = childPermissions.get(i).get(permission);
+            if (result != null) {
+                return result;
+            }
+        }
+        return TristateResult.UNDEFINED;
     }
 
     @Override
     public void refresh() {
-        Map<String, TristateResult> builder = new ConcurrentHashMap<>();
+        LuckPermsPermissionMap permissionMap = this.plugin.getPermissionMap();
+
+        List<ChildPermissionResults> entries = new ArrayList<>(this.sourceMap.size());
+        List<Map<String, TristateResult>> childPermissions = new ArrayList<>();
         for (Map.Entry<String, Boolean> e : this.sourceMap.entrySet()) {
-            Map<String, Boolean> children = this.plugin.getPermissionMap().getChildPermissions(e.getKey(), e.getValue());
-            for (Map.Entry<String, Boolean> child : children.entrySet()) {
-                builder.put(child.getKey(), RESULT_FACTORY.result(Tristate.of(child.getValue()), "parent: " + e.getKey()));
+            ChildPermissionResults children = permissionMap.getChildPermissionResults(e.getKey(), e.getValue());
+            entries.add(children);
+            if (!children.getResults().isEmpty()) {
+                childPermissions.add(children.getResults());
             }
         }
-        this.childPermissions = builder;
+        this.entries = entries;
+        this.childPermissions = childPermissions;
     }
 
     @Override
     public void invalidate() {
-        refresh();
+        // only rebuild if a parent permission in the source map was affected by the change
+        for (ChildPermissionResults entry : this.entries) {
+            if (!entry.isValid()) {
+                refresh();
+                return;
+            }
+        }
     }
 }
@@ -32,14 +32,17 @@ import me.lucko.luckperms.common.cache.LoadingMap;
 import me.lucko.luckperms.common.config.ConfigKeys;
 import me.lucko.luckperms.common.context.ContextManager;
 import me.lucko.luckperms.common.context.QueryOptionsCache;
+import me.lucko.luckperms.common.context.contextset.ImmutableContextSetImpl;
 import me.lucko.luckperms.common.util.CaffeineFactory;
 
 import net.luckperms.api.context.ImmutableContextSet;
 import net.luckperms.api.query.OptionKey;
 import net.luckperms.api.query.QueryOptions;
 
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -61,8 +64,11 @@ public class BukkitContextManager extends ContextManager<Player, Player> {
                 return new QueryOptionsCache<>(key, this);
             });
 
+    private final LPBukkitPlugin bukkitPlugin;
+
     public BukkitContextManager(LPBukkitPlugin plugin) {
         super(plugin, Player.class, Player.class);
+        this.bukkitPlugin = plugin;
     }
 
     public void onPlayerQuit(Player player) {
@@ -100,6 +106,19 @@ public class BukkitContextManager extends ContextManager<Player, Player> {
         }
     }
 
+    @Override
+    public QueryOptions getPredictedInitialQueryOptions() {
+        // players join into the default (first) world
+        List<World> worlds = this.bukkitPlugin.getBootstrap().getServer().getWorlds();
+        if (worlds.isEmpty()) {
+            return getStaticQueryOptions();
+        }
+
+        ImmutableContextSet.Builder context = new ImmutableContextSetImpl.BuilderImpl().addAll(getStaticContext());
+        WorldCalculator.calculate(this.bukkitPlugin, worlds.get(0), context::add);
+        return formQueryOptions(context.build());
+    }
+
     @Override
     public QueryOptions formQueryOptions(Player subject, ImmutableContextSet contextSet) {
         QueryOptions.Builder queryOptions = this.plugin.getConfiguration().get(ConfigKeys.GLOBAL_QUERY_OPTIONS).toBuilder();
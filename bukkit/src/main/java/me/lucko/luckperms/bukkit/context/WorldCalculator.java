@@ -57,13 +57,17 @@ public class WorldCalculator implements ContextCalculator<Player>, Listener {
 
     @Override
     public void calculate(@NonNull Player subject, @NonNull ContextConsumer consumer) {
+        calculate(this.plugin, subject.getWorld(), consumer);
+    }
+
+    static void calculate(LPBukkitPlugin plugin, World subjectWorld, ContextConsumer consumer) {
         Set<String> seen = new HashSet<>();
-        String world = subject.getWorld().getName().toLowerCase();
+        String world = subjectWorld.getName().toLowerCase();
         // seems like world names can sometimes be the empty string
         // see: https://github.com/lucko/LuckPerms/issues/2119
         while (Context.isValidValue(world) && seen.add(world)) {
             consumer.accept(DefaultContextKeys.WORLD_KEY, world);
-            world = this.plugin.getConfiguration().get(ConfigKeys.WORLD_REWRITES).getOrDefault(world, world).toLowerCase();
+            world = plugin.getConfiguration().get(ConfigKeys.WORLD_REWRITES).getOrDefault(world, world).toLowerCase();
         }
     }
 
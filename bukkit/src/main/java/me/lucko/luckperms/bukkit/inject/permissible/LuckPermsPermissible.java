@@ -31,6 +31,7 @@ import com.google.common.collect.ImmutableSet;
 import me.lucko.luckperms.bukkit.LPBukkitPlugin;
 import me.lucko.luckperms.bukkit.calculator.DefaultsProcessor;
 import me.lucko.luckperms.bukkit.calculator.OpProcessor;
+import me.lucko.luckperms.bukkit.inject.server.LuckPermsSubscriptionMap;
 import me.lucko.luckperms.common.calculator.result.TristateResult;
 import me.lucko.luckperms.common.config.ConfigKeys;
 import me.lucko.luckperms.common.context.QueryOptionsCache;
@@ -297,6 +298,12 @@ public class LuckPermsPermissible extends PermissibleBase {
         // (#invalidate is a fast call)
         if (this.queryOptionsSupplier != null) { // this method is called by the super class constructor, before this class has fully initialised
             this.queryOptionsSupplier.invalidate();
+
+            // op status also affects which permissions the player is subscribed to
+            LuckPermsSubscriptionMap subscriptionMap = this.plugin.getSubscriptionMap();
+            if (subscriptionMap != null) {
+                subscriptionMap.invalidatePlayerSubscriptions();
+            }
         }
 
         // but we don't need to do anything else in this method, unlike the CB impl.
@@ -98,6 +98,11 @@ public final class LuckPermsDefaultsMap implements Map<Boolean, Set<Permission>>
         getCache(op).invalidate();
         this.plugin.getUserManager().invalidateAllPermissionCalculators();
         this.plugin.getGroupManager().invalidateAllPermissionCalculators();
+
+        LuckPermsSubscriptionMap subscriptionMap = this.plugin.getSubscriptionMap();
+        if (subscriptionMap != null) {
+            subscriptionMap.invalidatePlayerSubscriptions();
+        }
     }
 
     /**
@@ -28,21 +28,31 @@ package me.lucko.luckperms.bukkit.inject.server;
 import com.google.common.collect.ForwardingMap;
 import com.google.common.collect.ImmutableMap;
 
+import me.lucko.luckperms.bukkit.LPBukkitPlugin;
+import me.lucko.luckperms.bukkit.calculator.ChildProcessor;
+import me.lucko.luckperms.common.cache.BufferedRequest;
 import me.lucko.luckperms.common.cache.LoadingMap;
-import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
+import me.lucko.luckperms.common.calculator.result.TristateResult;
 import me.lucko.luckperms.common.treeview.PermissionRegistry;
 
+import net.luckperms.api.util.Tristate;
+
 import org.bukkit.permissions.Permission;
 import org.bukkit.plugin.PluginManager;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -60,6 +70,7 @@ import java.util.function.Function;
 public final class LuckPermsPermissionMap extends ForwardingMap<String, Permission> {
 
     private static final Field PERMISSION_CHILDREN_FIELD;
+    private static final TristateResult.Factory CHILD_RESULT_FACTORY = new TristateResult.Factory(ChildProcessor.class);
 
     static {
         try {
@@ -77,13 +88,24 @@ public final class LuckPermsPermissionMap extends ForwardingMap<String, Permissi
     private final Map<String, Map<String, Boolean>> trueChildPermissions = LoadingMap.of(new ChildPermissionResolver(true));
     private final Map<String, Map<String, Boolean>> falseChildPermissions = LoadingMap.of(new ChildPermissionResolver(false));
 
+    // cache from permission --> child permission results, shared between all ChildProcessors
+    private final Map<String, ChildPermissionResults> trueChildPermissionResults = LoadingMap.of(new ChildPermissionResultResolver(true));
+    private final Map<String, ChildPermissionResults> falseChildPermissionResults = LoadingMap.of(new ChildPermissionResultResolver(false));
+
     /**
      * The plugin instance
      */
-    final LuckPermsPlugin plugin;
+    final LPBukkitPlugin plugin;
+
+    /**
+     * Buffers calculator invalidations, so that a burst of registrations
+     * (e.g. on startup or a plugin reload) only causes one invalidation.
+     */
+    private final InvalidateBuffer invalidateBuffer;
 
-    public LuckPermsPermissionMap(LuckPermsPlugin plugin, Map<String, Permission> existingData) {
+    public LuckPermsPermissionMap(LPBukkitPlugin plugin, Map<String, Permission> existingData) {
         this.plugin = plugin;
+        this.invalidateBuffer = new InvalidateBuffer();
         putAll(existingData);
     }
 
@@ -91,11 +113,78 @@ public final class LuckPermsPermissionMap extends ForwardingMap<String, Permissi
         return value ? this.trueChildPermissions.get(permission) : this.falseChildPermissions.get(permission);
     }
 
-    private void update() {
-        this.trueChildPermissions.clear();
-        this.falseChildPermissions.clear();
-        this.plugin.getUserManager().invalidateAllPermissionCalculators();
-        this.plugin.getGroupManager().invalidateAllPermissionCalculators();
+    /**
+     * Gets the resolved child permissions of the given permission, as results
+     * which can be returned directly by a {@link ChildProcessor}.
+     *
+     * <p>The returned instance is shared, and is marked as invalid once a change
+     * to the parent or its child tree removes it from the cache.</p>
+     *
+     * @param permission the parent permission
+     * @param value the value of the parent permission
+     * @return the child permission results
+     */
+    public ChildPermissionResults getChildPermissionResults(String permission, boolean value) {
+        return value ? this.trueChildPermissionResults.get(permission) : this.falseChildPermissionResults.get(permission);
+    }
+
+    private void update(String permission) {
+        update(Collections.singleton(permission));
+    }
+
+    private void update(Collection<String> permissions) {
+        invalidateChildPermissions(permissions);
+        this.invalidateBuffer.request();
+    }
+
+    /**
+     * Removes cached child permissions which are affected by a change to the
+     * given permissions - either because they are the permission itself, or
+     * because the permission appears somewhere in their child tree.
+     *
+     * @param permissions the permissions which have changed
+     */
+    private void invalidateChildPermissions(Collection<String> permissions) {
+        if (this.trueChildPermissions.isEmpty() && this.falseChildPermissions.isEmpty()) {
+            return;
+        }
+
+        Set<String> changed = new HashSet<>(permissions.size());
+        for (String permission : permissions) {
+            changed.add(permission.toLowerCase(Locale.ENGLISH));
+        }
+
+        invalidateChildPermissions(this.trueChildPermissions, changed);
+        invalidateChildPermissions(this.falseChildPermissions, changed);
+        invalidateChildPermissionResults(this.trueChildPermissionResults, changed);
+        invalidateChildPermissionResults(this.falseChildPermissionResults, changed);
+    }
+
+    private static void invalidateChildPermissions(Map<String, Map<String, Boolean>> cache, Set<String> changed) {
+        cache.entrySet().removeIf(e -> isAffected(e.getKey(), e.getValue(), changed));
+    }
+
+    private static void invalidateChildPermissionResults(Map<String, ChildPermissionResults> cache, Set<String> changed) {
+        cache.entrySet().removeIf(e -> {
+            if (isAffected(e.getKey(), e.getValue().getResults(), changed)) {
+                // let the processors holding these results know they need to be replaced
+                e.getValue().invalidate();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static boolean isAffected(String permission, Map<String, ?> children, Set<String> changed) {
+        if (changed.contains(permission.toLowerCase(Locale.ENGLISH))) {
+            return true;
+        }
+        for (String child : children.keySet()) {
+            if (changed.contains(child)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -110,7 +199,7 @@ public final class LuckPermsPermissionMap extends ForwardingMap<String, Permissi
 
         this.plugin.getPermissionRegistry().insert(key);
         Permission ret = super.put(key, inject(value));
-        update();
+        update(key);
         return ret;
     }
 
@@ -120,7 +209,7 @@ public final class LuckPermsPermissionMap extends ForwardingMap<String, Permissi
             this.plugin.getPermissionRegistry().insert(e.getKey());
             super.put(e.getKey(), inject(e.getValue()));
         }
-        update();
+        update(m.keySet());
     }
 
     @Override
@@ -172,6 +261,72 @@ public final class LuckPermsPermissionMap extends ForwardingMap<String, Permissi
         }
     }
 
+    private final class ChildPermissionResultResolver implements Function<String, ChildPermissionResults> {
+        private final boolean value;
+
+        private ChildPermissionResultResolver(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public ChildPermissionResults apply(@NonNull String key) {
+            Map<String, Boolean> children = getChildPermissions(key, this.value);
+            if (children.isEmpty()) {
+                return new ChildPermissionResults(key, this.value, ImmutableMap.of());
+            }
+
+            String cause = "parent: " + key;
+            ImmutableMap.Builder<String, TristateResult> results = ImmutableMap.builder();
+            for (Map.Entry<String, Boolean> child : children.entrySet()) {
+                results.put(child.getKey(), CHILD_RESULT_FACTORY.result(Tristate.of(child.getValue()), cause));
+            }
+            return new ChildPermissionResults(key, this.value, results.build());
+        }
+    }
+
+    /**
+     * The resolved child permission results for a parent permission, shared
+     * between all {@link ChildProcessor}s.
+     */
+    public static final class ChildPermissionResults {
+        private final String permission;
+        private final boolean value;
+        private final Map<String, TristateResult> results;
+        private volatile boolean valid = true;
+
+        ChildPermissionResults(String permission, boolean value, Map<String, TristateResult> results) {
+            this.permission = permission;
+            this.value = value;
+            this.results = results;
+        }
+
+        public String getPermission() {
+            return this.permission;
+        }
+
+        public boolean getValue() {
+            return this.value;
+        }
+
+        public Map<String, TristateResult> getResults() {
+            return this.results;
+        }
+
+        /**
+         * Gets if these results are still current. Once invalid, the results
+         * should be looked up again from the permission map.
+         *
+         * @return if the results are valid
+         */
+        public boolean isValid() {
+            return this.valid;
+        }
+
+        void invalidate() {
+            this.valid = false;
+        }
+    }
+
     private void resolveChildren(Map<String, Boolean> accumulator, Map<String, Boolean> children, boolean invert) {
         // iterate through the current known children.
         // the first time this method is called for a given permission, the children map will contain only the permission itself.
@@ -208,7 +363,7 @@ public final class LuckPermsPermissionMap extends ForwardingMap<String, Permissi
                 children = ((NotifyingChildrenMap) children).delegate;
             }
 
-            NotifyingChildrenMap notifyingChildren = new NotifyingChildrenMap(children);
+            NotifyingChildrenMap notifyingChildren = new NotifyingChildrenMap(permission.getName(), children);
             PERMISSION_CHILDREN_FIELD.set(permission, notifyingChildren);
         } catch (Exception e) {
             e.printStackTrace();
@@ -235,9 +390,11 @@ public final class LuckPermsPermissionMap extends ForwardingMap<String, Permissi
     }
 
     private final class NotifyingChildrenMap extends ForwardingMap<String, Boolean> {
+        private final String permission;
         private final Map<String, Boolean> delegate;
 
-        NotifyingChildrenMap(Map<String, Boolean> delegate) {
+        NotifyingChildrenMap(String permission, Map<String, Boolean> delegate) {
+            this.permission = permission;
             this.delegate = delegate;
         }
 
@@ -249,27 +406,45 @@ public final class LuckPermsPermissionMap extends ForwardingMap<String, Permissi
         @Override
         public Boolean put(@NonNull String key, @NonNull Boolean value) {
             Boolean ret = super.put(key, value);
-            LuckPermsPermissionMap.this.update();
+            LuckPermsPermissionMap.this.update(this.permission);
             return ret;
         }
 
         @Override
         public void putAll(@NonNull Map<? extends String, ? extends Boolean> map) {
             super.putAll(map);
-            LuckPermsPermissionMap.this.update();
+            LuckPermsPermissionMap.this.update(this.permission);
         }
 
         @Override
         public Boolean remove(@NonNull Object object) {
             Boolean ret = super.remove(object);
-            LuckPermsPermissionMap.this.update();
+            LuckPermsPermissionMap.this.update(this.permission);
             return ret;
         }
 
         @Override
         public void clear() {
             super.clear();
-            LuckPermsPermissionMap.this.update();
+            LuckPermsPermissionMap.this.update(this.permission);
+        }
+    }
+
+    private final class InvalidateBuffer extends BufferedRequest<Void> {
+        InvalidateBuffer() {
+            super(50, TimeUnit.MILLISECONDS, LuckPermsPermissionMap.this.plugin.getBootstrap().getScheduler());
+        }
+
+        @Override
+        protected Void perform() {
+            LuckPermsPermissionMap.this.plugin.getUserManager().invalidateAllPermissionCalculators();
+            LuckPermsPermissionMap.this.plugin.getGroupManager().invalidateAllPermissionCalculators();
+
+            LuckPermsSubscriptionMap subscriptionMap = LuckPermsPermissionMap.this.plugin.getSubscriptionMap();
+            if (subscriptionMap != null) {
+                subscriptionMap.invalidatePlayerSubscriptions();
+            }
+            return null;
         }
     }
 
@@ -25,24 +25,34 @@
 
 package me.lucko.luckperms.bukkit.inject.server;
 
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 
 import me.lucko.luckperms.bukkit.LPBukkitPlugin;
+import me.lucko.luckperms.common.event.LuckPermsEventListener;
 import me.lucko.luckperms.common.util.ImmutableCollectors;
 
+import net.luckperms.api.event.EventBus;
+import net.luckperms.api.event.context.ContextUpdateEvent;
+import net.luckperms.api.event.group.GroupDataRecalculateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+
 import org.bukkit.entity.Player;
 import org.bukkit.permissions.Permissible;
 import org.bukkit.plugin.PluginManager;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
@@ -67,11 +77,18 @@ import java.util.function.Function;
  *
  * Injected by {@link InjectorSubscriptionMap}.
  */
-public final class LuckPermsSubscriptionMap extends HashMap<String, Map<Permissible, Boolean>> {
+public final class LuckPermsSubscriptionMap extends ConcurrentHashMap<String, Map<Permissible, Boolean>> {
 
     // the plugin instance
     final LPBukkitPlugin plugin;
 
+    // how long the cached sets of subscribed online players are kept for. contexts can
+    // change without an event being fired, so this matches the query options expiry
+    private static final long PLAYER_SUBSCRIPTIONS_EXPIRY = TimeUnit.MILLISECONDS.toNanos(50L); // roughly every tick
+
+    // incremented to invalidate the cached sets of subscribed online players
+    private final AtomicInteger playerSubscriptionsVersion = new AtomicInteger();
+
     public LuckPermsSubscriptionMap(LPBukkitPlugin plugin, Map<String, Map<Permissible, Boolean>> existingData) {
         this.plugin = plugin;
         for (Entry<String, Map<Permissible, Boolean>> entry : existingData.entrySet()) {
@@ -97,11 +114,10 @@ public final class LuckPermsSubscriptionMap extends HashMap<String, Map<Permissi
 
         String permission = ((String) key);
 
-        LPSubscriptionValueMap result = (LPSubscriptionValueMap) super.get(key);
+        Map<Permissible, Boolean> result = super.get(key);
         if (result == null) {
             // calculate a new map - always!
-            result = new LPSubscriptionValueMap(permission);
-            super.put(permission, result);
+            result = super.computeIfAbsent(permission, LPSubscriptionValueMap::new);
         }
 
         return result;
@@ -141,6 +157,15 @@ public final class LuckPermsSubscriptionMap extends HashMap<String, Map<Permissi
         return key != null && key instanceof String;
     }
 
+    /**
+     * Invalidates the cached sets of online players subscribed to each permission.
+     *
+     * <p>Called whenever the permission data, op status or contexts of a player may have changed.</p>
+     */
+    public void invalidatePlayerSubscriptions() {
+        this.playerSubscriptionsVersion.incrementAndGet();
+    }
+
     /**
      * Converts this map back to a standard HashMap
      *
@@ -163,19 +188,18 @@ public final class LuckPermsSubscriptionMap extends HashMap<String, Map<Permissi
         private final String permission;
 
         // the backing map
-        private final Map<Permissible, Boolean> backing;
+        private final Map<Permissible, Boolean> backing = new MapMaker().weakKeys().makeMap();
+
+        // the online players subscribed to the permission, cached until the version changes or they expire
+        private volatile PlayerSubscriptions playerSubscriptions = null;
 
         private LPSubscriptionValueMap(String permission, Map<Permissible, Boolean> backing) {
             this.permission = permission;
-            this.backing = Collections.synchronizedMap(new WeakHashMap<>(backing));
-
-            // remove all players from the map
-            this.backing.keySet().removeIf(p -> p instanceof Player);
+            putAll(backing);
         }
 
         public LPSubscriptionValueMap(String permission) {
             this.permission = permission;
-            this.backing = Collections.synchronizedMap(new WeakHashMap<>());
         }
 
         @Override
@@ -215,6 +239,10 @@ public final class LuckPermsSubscriptionMap extends HashMap<String, Map<Permissi
                 return true;
             }
 
+            if (key == null || value == null) {
+                return null;
+            }
+
             return this.backing.put(key, value);
         }
 
@@ -227,19 +255,33 @@ public final class LuckPermsSubscriptionMap extends HashMap<String, Map<Permissi
         @Override
         public @NonNull Set<Permissible> keySet() {
             // start with the backing set
-            Set<Permissible> set;
-            synchronized (this.backing) {
-                set = new HashSet<>(this.backing.keySet());
-            }
+            Set<Permissible> set = new HashSet<>(this.backing.keySet());
 
             // add any online players who meet requirements
+            set.addAll(getPlayerSubscriptions());
+
+            return set;
+        }
+
+        private Set<Player> getPlayerSubscriptions() {
+            int version = LuckPermsSubscriptionMap.this.playerSubscriptionsVersion.get();
+            long now = System.nanoTime();
+
+            PlayerSubscriptions subscriptions = this.playerSubscriptions;
+            if (subscriptions != null && subscriptions.version == version && now - subscriptions.expireAt < 0) {
+                return subscriptions.players;
+            }
+
+            ImmutableSet.Builder<Player> players = ImmutableSet.builder();
             for (Player player : LuckPermsSubscriptionMap.this.plugin.getBootstrap().getServer().getOnlinePlayers()) {
                 if (player.hasPermission(this.permission) || player.isPermissionSet(this.permission)) {
-                    set.add(player);
+                    players.add(player);
                 }
             }
 
-            return set;
+            subscriptions = new PlayerSubscriptions(version, now + PLAYER_SUBSCRIPTIONS_EXPIRY, players.build());
+            this.playerSubscriptions = subscriptions;
+            return subscriptions.players;
         }
 
         @Override
@@ -279,7 +321,7 @@ public final class LuckPermsSubscriptionMap extends HashMap<String, Map<Permissi
 
         @Override
         public void putAll(@NonNull Map<? extends Permissible, ? extends Boolean> m) {
-            this.backing.putAll(m);
+            m.forEach(this::put);
         }
 
         @Override
@@ -292,4 +334,42 @@ public final class LuckPermsSubscriptionMap extends HashMap<String, Map<Permissi
             return this.backing.values();
         }
     }
+
+    private static final class PlayerSubscriptions {
+        private final int version;
+        private final long expireAt;
+        private final Set<Player> players;
+
+        PlayerSubscriptions(int version, long expireAt, Set<Player> players) {
+            this.version = version;
+            this.expireAt = expireAt;
+            this.players = players;
+        }
+    }
+
+    /**
+     * Invalidates the cached player subscriptions in the active subscription map
+     * when user data or contexts are recalculated.
+     */
+    public static final class InvalidationListener implements LuckPermsEventListener {
+        private final LPBukkitPlugin plugin;
+
+        public InvalidationListener(LPBukkitPlugin plugin) {
+            this.plugin = plugin;
+        }
+
+        @Override
+        public void bind(EventBus bus) {
+            bus.subscribe(UserDataRecalculateEvent.class, e -> invalidate());
+            bus.subscribe(GroupDataRecalculateEvent.class, e -> invalidate());
+            bus.subscribe(ContextUpdateEvent.class, e -> invalidate());
+        }
+
+        private void invalidate() {
+            LuckPermsSubscriptionMap subscriptionMap = this.plugin.getSubscriptionMap();
+            if (subscriptionMap != null) {
+                subscriptionMap.invalidatePlayerSubscriptions();
+            }
+        }
+    }
 }
@@ -28,6 +28,7 @@ package me.lucko.luckperms.bukkit.listeners;
 import me.lucko.luckperms.bukkit.LPBukkitPlugin;
 import me.lucko.luckperms.bukkit.inject.permissible.LuckPermsPermissible;
 import me.lucko.luckperms.bukkit.inject.permissible.PermissibleInjector;
+import me.lucko.luckperms.bukkit.inject.server.LuckPermsSubscriptionMap;
 import me.lucko.luckperms.common.config.ConfigKeys;
 import me.lucko.luckperms.common.locale.message.Message;
 import me.lucko.luckperms.common.model.User;
@@ -38,6 +39,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
@@ -219,6 +221,17 @@ public class BukkitConnectionListener extends AbstractConnectionListener impleme
         }
     }
 
+    // Run as early as possible, so broadcasts made by other plugins on join already include the player
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent e) {
+        // the permissible has been injected by now, but the player's cached data was calculated
+        // without a recalculate event - so add them to any cached permission subscriptions
+        LuckPermsSubscriptionMap subscriptionMap = this.plugin.getSubscriptionMap();
+        if (subscriptionMap != null) {
+            subscriptionMap.invalidatePlayerSubscriptions();
+        }
+    }
+
     // Wait until the last priority to unload, so plugins can still perform permission checks on this event
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerQuit(PlayerQuitEvent e) {
@@ -242,6 +255,12 @@ public class BukkitConnectionListener extends AbstractConnectionListener impleme
 
             // remove their contexts cache
             this.plugin.getContextManager().onPlayerQuit(player);
+
+            // remove them from any cached permission subscriptions
+            LuckPermsSubscriptionMap subscriptionMap = this.plugin.getSubscriptionMap();
+            if (subscriptionMap != null) {
+                subscriptionMap.invalidatePlayerSubscriptions();
+            }
         }, 1L);
     }
 
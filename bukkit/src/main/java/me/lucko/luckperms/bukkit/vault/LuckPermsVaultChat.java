@@ -113,7 +113,7 @@ public class LuckPermsVaultChat extends AbstractVaultChat {
     public void setUserChatPrefix(String world, UUID uuid, String prefix) {
         Objects.requireNonNull(uuid, "uuid");
 
-        PermissionHolder user = this.vaultPermission.lookupUser(uuid);
+        PermissionHolder user = this.vaultPermission.lookupUserForWrite(uuid);
         if (user instanceof Group) {
             throw new UnsupportedOperationException("Unable to modify the permissions of NPC players");
         }
@@ -124,7 +124,7 @@ public class LuckPermsVaultChat extends AbstractVaultChat {
     public void setUserChatSuffix(String world, UUID uuid, String suffix) {
         Objects.requireNonNull(uuid, "uuid");
 
-        PermissionHolder user = this.vaultPermission.lookupUser(uuid);
+        PermissionHolder user = this.vaultPermission.lookupUserForWrite(uuid);
         if (user instanceof Group) {
             throw new UnsupportedOperationException("Unable to modify the permissions of NPC players");
         }
@@ -147,7 +147,7 @@ public class LuckPermsVaultChat extends AbstractVaultChat {
         Objects.requireNonNull(uuid, "uuid");
         Objects.requireNonNull(key, "key");
 
-        PermissionHolder user = this.vaultPermission.lookupUser(uuid);
+        PermissionHolder user = this.vaultPermission.lookupUserForWrite(uuid);
         if (user instanceof Group) {
             throw new UnsupportedOperationException("Unable to modify the permissions of NPC players");
         }
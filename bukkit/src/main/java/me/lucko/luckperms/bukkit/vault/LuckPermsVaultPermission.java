@@ -80,8 +80,16 @@ public class LuckPermsVaultPermission extends AbstractVaultPermission {
     // the plugin instance
     private final LPBukkitPlugin plugin;
 
+    // cache of offline player data
+    private final VaultOfflineCache offlineCache;
+
     public LuckPermsVaultPermission(LPBukkitPlugin plugin) {
         this.plugin = plugin;
+        this.offlineCache = new VaultOfflineCache(plugin);
+    }
+
+    public VaultOfflineCache getOfflineCache() {
+        return this.offlineCache;
     }
 
     @Override
@@ -110,8 +118,20 @@ public class LuckPermsVaultPermission extends AbstractVaultPermission {
             return uuid;
         }
 
+        // have we looked them up recently?
+        String username = player.toLowerCase();
+        uuid = this.offlineCache.getUniqueIdIfPresent(username);
+        if (uuid != null) {
+            return uuid;
+        }
+
         // are we on the main thread?
-        if (!this.plugin.getBootstrap().isServerStarting() && this.plugin.getBootstrap().getServer().isPrimaryThread() && !this.plugin.getConfiguration().get(ConfigKeys.VAULT_UNSAFE_LOOKUPS)) {
+        if (isUnsafeLookup()) {
+            // start loading in the background, so the next request can be served from the cache
+            if (this.plugin.getConfiguration().get(ConfigKeys.VAULT_NON_BLOCKING_LOOKUPS)) {
+                this.offlineCache.lookupUniqueId(username);
+            }
+
             throw new RuntimeException(
                     "The operation to lookup a UUID for '" + player + "' was cancelled by LuckPerms. This is NOT a bug. \n" +
                     "The lookup request was made on the main server thread. It is not safe to execute a request to \n" +
@@ -124,7 +144,7 @@ public class LuckPermsVaultPermission extends AbstractVaultPermission {
         }
 
         // lookup a username from the database
-        uuid = this.plugin.getStorage().getPlayerUniqueId(player.toLowerCase()).join();
+        uuid = this.offlineCache.lookupUniqueId(username).join();
         if (uuid == null) {
             uuid = this.plugin.getBootstrap().lookupUniqueId(player).orElse(null);
         }
@@ -161,8 +181,25 @@ public class LuckPermsVaultPermission extends AbstractVaultPermission {
             return npcGroup;
         }
 
+        // loaded recently?
+        user = this.offlineCache.getIfPresent(uuid);
+        if (user != null) {
+            return user;
+        }
+
         // are we on the main thread?
-        if (!this.plugin.getBootstrap().isServerStarting() && this.plugin.getBootstrap().getServer().isPrimaryThread() && !this.plugin.getConfiguration().get(ConfigKeys.VAULT_UNSAFE_LOOKUPS)) {
+        if (isUnsafeLookup()) {
+            // start loading in the background, and use the default group in the meantime
+            if (this.plugin.getConfiguration().get(ConfigKeys.VAULT_NON_BLOCKING_LOOKUPS)) {
+                this.offlineCache.loadUser(uuid);
+
+                Group defaultGroup = this.plugin.getGroupManager().getIfLoaded(GroupManager.DEFAULT_GROUP_NAME);
+                if (defaultGroup == null) {
+                    throw new IllegalStateException("unable to get default group");
+                }
+                return defaultGroup;
+            }
+
             throw new RuntimeException(
                     "The operation to load user data for '" + uuid + "' was cancelled by LuckPerms. This is NOT a bug. \n" +
                     "The lookup request was made on the main server thread. It is not safe to execute a request to \n" +
@@ -174,7 +211,51 @@ public class LuckPermsVaultPermission extends AbstractVaultPermission {
         }
 
         // load an instance from the DB
-        return this.plugin.getStorage().loadUser(uuid, null).join();
+        return this.offlineCache.loadUser(uuid).join();
+    }
+
+    /**
+     * Looks up a user in order to modify their data.
+     *
+     * <p>Unlike {@link #lookupUser(UUID)}, cached offline data is never
+     * returned, as saving changes to an out of date instance would overwrite
+     * newer data.</p>
+     *
+     * @param uuid the uuid of the user
+     * @return the user, or the npc group if the uuid belongs to an NPC
+     */
+    public PermissionHolder lookupUserForWrite(UUID uuid) {
+        Objects.requireNonNull(uuid, "uuid");
+
+        // loaded already?
+        User user = this.plugin.getUserManager().getIfLoaded(uuid);
+        if (user != null) {
+            return user;
+        }
+
+        if (uuid.version() == 2) {
+            return lookupUser(uuid);
+        }
+
+        // are we on the main thread?
+        if (isUnsafeLookup()) {
+            throw new RuntimeException(
+                    "The operation to modify user data for '" + uuid + "' was cancelled by LuckPerms. This is NOT a bug. \n" +
+                    "The request was made on the main server thread for a player who is not online. It is not safe to \n" +
+                    "load their data from the database in this context, and cached data can't be modified without \n" +
+                    "risking overwriting newer changes. \n" +
+                    "If you are a plugin author, please consider making your request asynchronously. \n" +
+                    "Alternatively, server admins can disable this catch by setting 'vault-unsafe-lookups' to true \n" +
+                    "in the LP config, but should consider the consequences (lag) before doing so."
+            );
+        }
+
+        // load a fresh instance from the DB
+        return this.offlineCache.reloadUser(uuid).join();
+    }
+
+    private boolean isUnsafeLookup() {
+        return !this.plugin.getBootstrap().isServerStarting() && this.plugin.getBootstrap().getServer().isPrimaryThread() && !this.plugin.getConfiguration().get(ConfigKeys.VAULT_UNSAFE_LOOKUPS);
     }
 
     @Override
@@ -200,7 +281,7 @@ public class LuckPermsVaultPermission extends AbstractVaultPermission {
         Objects.requireNonNull(uuid, "uuid");
         Objects.requireNonNull(permission, "permission");
 
-        PermissionHolder user = lookupUser(uuid);
+        PermissionHolder user = lookupUserForWrite(uuid);
         if (user instanceof Group) {
             throw new UnsupportedOperationException("Unable to modify the permissions of NPC players");
         }
@@ -212,7 +293,7 @@ public class LuckPermsVaultPermission extends AbstractVaultPermission {
         Objects.requireNonNull(uuid, "uuid");
         Objects.requireNonNull(permission, "permission");
 
-        PermissionHolder user = lookupUser(uuid);
+        PermissionHolder user = lookupUserForWrite(uuid);
         if (user instanceof Group) {
             throw new UnsupportedOperationException("Unable to modify the permissions of NPC players");
         }
@@ -30,6 +30,7 @@ import me.lucko.luckperms.bukkit.LPBukkitPlugin;
 import net.milkbowl.vault.chat.Chat;
 import net.milkbowl.vault.permission.Permission;
 
+import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.ServicesManager;
 
@@ -64,6 +65,8 @@ public class VaultHookManager {
             sm.register(Permission.class, this.permission, this.plugin.getBootstrap(), ServicePriority.High);
             sm.register(Chat.class, this.chat, this.plugin.getBootstrap(), ServicePriority.High);
 
+            this.plugin.getBootstrap().getServer().getPluginManager().registerEvents(this.permission.getOfflineCache(), this.plugin.getBootstrap());
+
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -76,6 +79,7 @@ public class VaultHookManager {
         final ServicesManager sm = this.plugin.getBootstrap().getServer().getServicesManager();
 
         if (this.permission != null) {
+            HandlerList.unregisterAll(this.permission.getOfflineCache());
             sm.unregister(Permission.class, this.permission);
             this.permission = null;
         }
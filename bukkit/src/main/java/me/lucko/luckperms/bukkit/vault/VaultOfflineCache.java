@@ -0,0 +1,193 @@
+/*
+ * This file is part of LuckPerms, licensed under the MIT License.
+ *
+ *  Copyright (c) lucko (Luck) <luck@lucko.me>
+ *  Copyright (c) contributors
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+
+package me.lucko.luckperms.bukkit.vault;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import me.lucko.luckperms.bukkit.LPBukkitPlugin;
+import me.lucko.luckperms.common.config.ConfigKeys;
+import me.lucko.luckperms.common.model.User;
+import me.lucko.luckperms.common.util.CaffeineFactory;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A read cache of offline user data (and username to uuid mappings) for
+ * Vault lookups.
+ *
+ * Loads are de-duplicated, so concurrent lookups for the same player result
+ * in a single storage request. Players who have recently disconnected are
+ * added to the cache when they quit, since plugins frequently query their
+ * data via Vault soon after.
+ */
+public class VaultOfflineCache implements Listener {
+    private final LPBukkitPlugin plugin;
+
+    // recently loaded offline users
+    private final Cache<UUID, User> users;
+
+    // recently resolved username --> uuid mappings
+    private final Cache<String, UUID> uniqueIds;
+
+    // loads which are currently in progress
+    private final Map<UUID, CompletableFuture<User>> userLoads = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<UUID>> uniqueIdLoads = new ConcurrentHashMap<>();
+
+    public VaultOfflineCache(LPBukkitPlugin plugin) {
+        this.plugin = plugin;
+
+        int size = plugin.getConfiguration().get(ConfigKeys.VAULT_OFFLINE_CACHE_SIZE);
+        int expiry = plugin.getConfiguration().get(ConfigKeys.VAULT_OFFLINE_CACHE_EXPIRY);
+        this.users = CaffeineFactory.newBuilder()
+                .maximumSize(Math.max(0, size))
+                .expireAfterWrite(Math.max(0, expiry), TimeUnit.SECONDS)
+                .build();
+        this.uniqueIds = CaffeineFactory.newBuilder()
+                .maximumSize(Math.max(0, size))
+                .expireAfterWrite(Math.max(0, expiry), TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Gets the cached data for an offline user, if present.
+     *
+     * <p>If the user is still loaded by the plugin, the returned instance is live.
+     * Otherwise, it may be up to the configured expiry time out of date, and a
+     * reload is started in the background.</p>
+     *
+     * @param uuid the uuid of the user
+     * @return the cached user, or null
+     */
+    public @Nullable User getIfPresent(UUID uuid) {
+        User user = this.users.getIfPresent(uuid);
+        if (user == null) {
+            return null;
+        }
+
+        if (this.plugin.getUserManager().getIfLoaded(uuid) != user) {
+            // the user has since been unloaded, refresh in the background
+            loadUser(uuid);
+        }
+        return user;
+    }
+
+    /**
+     * Gets the cached uuid for a username, if present.
+     *
+     * @param username the username (lowercase)
+     * @return the cached uuid, or null
+     */
+    public @Nullable UUID getUniqueIdIfPresent(String username) {
+        return this.uniqueIds.getIfPresent(username);
+    }
+
+    /**
+     * Loads the data for an offline user, or returns the load already in progress.
+     *
+     * @param uuid the uuid of the user
+     * @return a future encapsulating the loaded user
+     */
+    public CompletableFuture<User> loadUser(UUID uuid) {
+        return load(this.userLoads, this.users, uuid, u -> this.plugin.getStorage().loadUser(u, null).thenApply(user -> {
+            // keep the user loaded whilst they're likely to be queried again
+            this.plugin.getUserManager().getHouseKeeper().registerApiUsage(u);
+            return user;
+        }));
+    }
+
+    /**
+     * Loads fresh data for an offline user, ignoring (and replacing) any
+     * cached instance.
+     *
+     * <p>Used before making changes, so that a possibly out of date cached
+     * instance is never modified and saved over newer data.</p>
+     *
+     * @param uuid the uuid of the user
+     * @return a future encapsulating the loaded user
+     */
+    public CompletableFuture<User> reloadUser(UUID uuid) {
+        this.users.invalidate(uuid);
+        return loadUser(uuid);
+    }
+
+    /**
+     * Looks up the uuid for a username, or returns the lookup already in progress.
+     *
+     * @param username the username (lowercase)
+     * @return a future encapsulating the uuid, or null if one couldn't be found
+     */
+    public CompletableFuture<UUID> lookupUniqueId(String username) {
+        return load(this.uniqueIdLoads, this.uniqueIds, username, this.plugin.getStorage()::getPlayerUniqueId);
+    }
+
+    private static <K, V> CompletableFuture<V> load(Map<K, CompletableFuture<V>> inProgress, Cache<K, V> cache, K key, Function<K, CompletableFuture<V>> loader) {
+        CompletableFuture<V> future = inProgress.get(key);
+        if (future != null) {
+            return future;
+        }
+
+        CompletableFuture<V> newFuture = new CompletableFuture<>();
+        future = inProgress.putIfAbsent(key, newFuture);
+        if (future != null) {
+            return future;
+        }
+
+        loader.apply(key).whenComplete((value, ex) -> {
+            inProgress.remove(key);
+            if (ex != null) {
+                newFuture.completeExceptionally(ex);
+                return;
+            }
+            if (value != null) {
+                cache.put(key, value);
+            }
+            newFuture.complete(value);
+        });
+        return newFuture;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent e) {
+        UUID uuid = e.getPlayer().getUniqueId();
+        this.uniqueIds.put(e.getPlayer().getName().toLowerCase(), uuid);
+
+        User user = this.plugin.getUserManager().getIfLoaded(uuid);
+        if (user != null) {
+            this.users.put(uuid, user);
+        }
+    }
+}
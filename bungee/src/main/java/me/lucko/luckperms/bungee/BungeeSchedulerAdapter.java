@@ -25,12 +25,17 @@
 
 package me.lucko.luckperms.bungee;
 
+import com.google.common.collect.ImmutableList;
+
+import me.lucko.luckperms.common.plugin.scheduler.InstrumentedExecutor;
+import me.lucko.luckperms.common.plugin.scheduler.IoThreadPool;
 import me.lucko.luckperms.common.plugin.scheduler.SchedulerAdapter;
 import me.lucko.luckperms.common.plugin.scheduler.SchedulerTask;
 import me.lucko.luckperms.common.util.Iterators;
 
 import net.md_5.bungee.api.scheduler.ScheduledTask;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -40,12 +45,14 @@ import java.util.concurrent.TimeUnit;
 public class BungeeSchedulerAdapter implements SchedulerAdapter {
     private final LPBungeeBootstrap bootstrap;
 
-    private final Executor executor;
+    private final InstrumentedExecutor executor;
+    private final IoThreadPool io;
     private final Set<ScheduledTask> tasks = Collections.newSetFromMap(new WeakHashMap<>());
 
     public BungeeSchedulerAdapter(LPBungeeBootstrap bootstrap) {
         this.bootstrap = bootstrap;
-        this.executor = r -> bootstrap.getProxy().getScheduler().runAsync(bootstrap, r);
+        this.executor = new InstrumentedExecutor("worker", r -> bootstrap.getProxy().getScheduler().runAsync(bootstrap, r));
+        this.io = new IoThreadPool();
     }
 
     @Override
@@ -53,6 +60,21 @@ public class BungeeSchedulerAdapter implements SchedulerAdapter {
         return this.executor;
     }
 
+    @Override
+    public Executor io() {
+        return this.io.getExecutor();
+    }
+
+    @Override
+    public void setIoThreads(int threads) {
+        this.io.setThreads(threads);
+    }
+
+    @Override
+    public Collection<InstrumentedExecutor> getInstrumentedExecutors() {
+        return ImmutableList.of(this.executor, this.io.getExecutor());
+    }
+
     @Override
     public Executor sync() {
         return this.executor;
@@ -79,6 +101,6 @@ public class BungeeSchedulerAdapter implements SchedulerAdapter {
 
     @Override
     public void shutdownExecutor() {
-        // do nothing
+        this.io.shutdown();
     }
 }
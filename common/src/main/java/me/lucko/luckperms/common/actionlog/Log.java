@@ -25,7 +25,10 @@
 
 package me.lucko.luckperms.common.actionlog;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSortedSet;
 
 import me.lucko.luckperms.common.util.ImmutableCollectors;
@@ -33,7 +36,12 @@ import me.lucko.luckperms.common.util.ImmutableCollectors;
 import net.luckperms.api.actionlog.Action;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.UUID;
 
@@ -48,10 +56,48 @@ public class Log {
         return EMPTY;
     }
 
-    private final SortedSet<LoggedAction> content;
+    private final ImmutableSortedSet<LoggedAction> content;
+
+    // indexes of the content, built in a single pass at construction.
+    // entries are added in content order, so each list is already sorted
+    private final ImmutableListMultimap<UUID, LoggedAction> actorIndex;
+    private final ImmutableListMultimap<UUID, LoggedAction> userIndex;
+    private final ImmutableListMultimap<String, LoggedAction> groupIndex;
+    private final ImmutableListMultimap<String, LoggedAction> trackIndex;
+
+    // only built if the log is searched
+    private final Supplier<SearchIndex> searchIndex;
 
     Log(List<LoggedAction> content) {
         this.content = ImmutableSortedSet.copyOf(content);
+
+        ImmutableListMultimap.Builder<UUID, LoggedAction> actorIndex = ImmutableListMultimap.builder();
+        ImmutableListMultimap.Builder<UUID, LoggedAction> userIndex = ImmutableListMultimap.builder();
+        ImmutableListMultimap.Builder<String, LoggedAction> groupIndex = ImmutableListMultimap.builder();
+        ImmutableListMultimap.Builder<String, LoggedAction> trackIndex = ImmutableListMultimap.builder();
+
+        for (LoggedAction e : this.content) {
+            actorIndex.put(e.getSource().getUniqueId(), e);
+
+            Action.Target target = e.getTarget();
+            switch (target.getType()) {
+                case USER:
+                    target.getUniqueId().ifPresent(uniqueId -> userIndex.put(uniqueId, e));
+                    break;
+                case GROUP:
+                    groupIndex.put(target.getName(), e);
+                    break;
+                case TRACK:
+                    trackIndex.put(target.getName(), e);
+                    break;
+            }
+        }
+
+        this.actorIndex = actorIndex.build();
+        this.userIndex = userIndex.build();
+        this.groupIndex = groupIndex.build();
+        this.trackIndex = trackIndex.build();
+        this.searchIndex = Suppliers.memoize(() -> new SearchIndex(this.content.asList()));
     }
 
     public SortedSet<LoggedAction> getContent() {
@@ -59,36 +105,110 @@ public class Log {
     }
 
     public SortedSet<LoggedAction> getContent(UUID actor) {
-        return this.content.stream()
-                .filter(e -> e.getSource().getUniqueId().equals(actor))
-                .collect(ImmutableCollectors.toSortedSet());
+        return ImmutableSortedSet.copyOf(this.actorIndex.get(actor));
     }
 
     public SortedSet<LoggedAction> getUserHistory(UUID uniqueId) {
-        return this.content.stream()
-                .filter(e -> e.getTarget().getType() == Action.Target.Type.USER)
-                .filter(e -> e.getTarget().getUniqueId().isPresent() && e.getTarget().getUniqueId().get().equals(uniqueId))
-                .collect(ImmutableCollectors.toSortedSet());
+        return ImmutableSortedSet.copyOf(this.userIndex.get(uniqueId));
     }
 
     public SortedSet<LoggedAction> getGroupHistory(String name) {
-        return this.content.stream()
-                .filter(e -> e.getTarget().getType() == Action.Target.Type.GROUP)
-                .filter(e -> e.getTarget().getName().equals(name))
-                .collect(ImmutableCollectors.toSortedSet());
+        return ImmutableSortedSet.copyOf(this.groupIndex.get(name));
     }
 
     public SortedSet<LoggedAction> getTrackHistory(String name) {
-        return this.content.stream()
-                .filter(e -> e.getTarget().getType() == Action.Target.Type.TRACK)
-                .filter(e -> e.getTarget().getName().equals(name))
-                .collect(ImmutableCollectors.toSortedSet());
+        return ImmutableSortedSet.copyOf(this.trackIndex.get(name));
     }
 
     public SortedSet<LoggedAction> getSearch(String query) {
-        return this.content.stream()
-                .filter(e -> e.matchesSearch(query))
-                .collect(ImmutableCollectors.toSortedSet());
+        return this.searchIndex.get().search(query);
+    }
+
+    /**
+     * A trigram index of the fields checked by {@link LoggedAction#matchesSearch(String)}.
+     */
+    private static final class SearchIndex {
+        private static final int GRAM_LENGTH = 3;
+
+        private final List<LoggedAction> entries;
+        private final Map<String, int[]> postings;
+
+        SearchIndex(List<LoggedAction> entries) {
+            this.entries = entries;
+
+            Map<String, IntList> postings = new HashMap<>();
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i < entries.size(); i++) {
+                LoggedAction e = entries.get(i);
+                addGrams(grams, e.getSource().getName().toLowerCase());
+                addGrams(grams, e.getTarget().getName().toLowerCase());
+                addGrams(grams, e.getDescription().toLowerCase());
+
+                for (String gram : grams) {
+                    postings.computeIfAbsent(gram, x -> new IntList()).add(i);
+                }
+                grams.clear();
+            }
+
+            this.postings = new HashMap<>(postings.size());
+            for (Map.Entry<String, IntList> entry : postings.entrySet()) {
+                this.postings.put(entry.getKey(), entry.getValue().toArray());
+            }
+        }
+
+        SortedSet<LoggedAction> search(String query) {
+            String lowerQuery = query.toLowerCase();
+
+            // too short to use the index
+            if (lowerQuery.length() < GRAM_LENGTH) {
+                return this.entries.stream()
+                        .filter(e -> e.matchesSearch(query))
+                        .collect(ImmutableCollectors.toSortedSet());
+            }
+
+            // find the entries containing the least common gram in the query
+            int[] candidates = null;
+            for (int i = 0; i + GRAM_LENGTH <= lowerQuery.length(); i++) {
+                int[] ids = this.postings.get(lowerQuery.substring(i, i + GRAM_LENGTH));
+                if (ids == null) {
+                    return ImmutableSortedSet.of();
+                }
+                if (candidates == null || ids.length < candidates.length) {
+                    candidates = ids;
+                }
+            }
+
+            ImmutableSortedSet.Builder<LoggedAction> results = ImmutableSortedSet.naturalOrder();
+            for (int id : candidates) {
+                LoggedAction e = this.entries.get(id);
+                if (e.matchesSearch(query)) {
+                    results.add(e);
+                }
+            }
+            return results.build();
+        }
+
+        private static void addGrams(Set<String> grams, String s) {
+            for (int i = 0; i + GRAM_LENGTH <= s.length(); i++) {
+                grams.add(s.substring(i, i + GRAM_LENGTH));
+            }
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size = 0;
+
+        void add(int value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(this.values, this.size);
+        }
     }
 
     public static class Builder {
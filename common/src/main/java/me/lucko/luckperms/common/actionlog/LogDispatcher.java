@@ -113,6 +113,9 @@ public class LogDispatcher {
     }
 
     public void dispatchFromRemote(LoggedAction entry) {
+        // the entry has been logged to the storage by another server
+        this.plugin.getStorage().invalidateLog();
+
         if (shouldBroadcast(entry, LogBroadcastEvent.Origin.REMOTE)) {
             broadcast(entry, LogNotifyEvent.Origin.REMOTE, null);
         }
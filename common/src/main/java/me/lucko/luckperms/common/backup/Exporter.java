@@ -25,6 +25,7 @@
 
 package me.lucko.luckperms.common.backup;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import me.lucko.luckperms.common.command.CommandResult;
@@ -48,6 +49,7 @@ import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -84,15 +86,35 @@ public class Exporter implements Runnable {
     private final Path filePath;
     private final boolean includeUsers;
     private final boolean saveFile;
+    private final boolean streaming;
     private final String label;
     private final ProgressLogger log;
 
     public Exporter(LuckPermsPlugin plugin, Sender executor, Path filePath, boolean includeUsers, boolean saveFile) {
+        this(plugin, executor, filePath, includeUsers, saveFile, false);
+    }
+
+    /**
+     * Creates an exporter which writes to a file.
+     *
+     * <p>In streaming mode, entries are written as newline-delimited json as
+     * soon as they are read, and user data is read directly from the storage
+     * without loading users into the user manager.</p>
+     *
+     * @param plugin the plugin
+     * @param executor the sender running the export
+     * @param filePath the file to write to
+     * @param includeUsers if users should be exported
+     * @param saveFile if the output should be saved to a file
+     * @param streaming if the export should be streamed
+     */
+    public Exporter(LuckPermsPlugin plugin, Sender executor, Path filePath, boolean includeUsers, boolean saveFile, boolean streaming) {
         this.plugin = plugin;
         this.executor = executor;
         this.filePath = filePath;
         this.includeUsers = includeUsers;
         this.saveFile = saveFile;
+        this.streaming = streaming;
         this.label = null;
 
         this.log = new ProgressLogger(Message.EXPORT_LOG, Message.EXPORT_LOG_PROGRESS, null);
@@ -106,6 +128,7 @@ public class Exporter implements Runnable {
         this.filePath = null;
         this.includeUsers = includeUsers;
         this.saveFile = saveFile;
+        this.streaming = false;
         this.label = label;
 
         this.log = new ProgressLogger(Message.EXPORT_LOG, Message.EXPORT_LOG_PROGRESS, null);
@@ -115,6 +138,11 @@ public class Exporter implements Runnable {
 
     @Override
     public void run() {
+        if (this.streaming) {
+            runStreaming();
+            return;
+        }
+
         JsonObject json = new JsonObject();
         json.add("metadata", new JObject()
                 .add("generatedBy", this.executor.getNameWithLocation())
@@ -147,6 +175,79 @@ public class Exporter implements Runnable {
         }
     }
 
+    private void runStreaming() {
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(this.filePath)), StandardCharsets.UTF_8))) {
+            writeLine(out, new JObject()
+                    .add("type", "metadata")
+                    .add("generatedBy", this.executor.getNameWithLocation())
+                    .add("generatedAt", DATE_FORMAT.format(new Date(System.currentTimeMillis())))
+                    .toJson());
+
+            this.log.log("Writing group data...");
+            for (Map.Entry<String, JsonElement> group : exportGroups().entrySet()) {
+                writeLine(out, new JObject()
+                        .add("type", "group")
+                        .add("name", group.getKey())
+                        .add("nodes", group.getValue().getAsJsonObject().get("nodes"))
+                        .toJson());
+            }
+
+            this.log.log("Writing track data...");
+            for (Map.Entry<String, JsonElement> track : exportTracks().entrySet()) {
+                writeLine(out, new JObject()
+                        .add("type", "track")
+                        .add("name", track.getKey())
+                        .add("groups", track.getValue().getAsJsonObject().get("groups"))
+                        .toJson());
+            }
+
+            if (this.includeUsers) {
+                this.log.log("Streaming user data...");
+
+                AtomicInteger userCount = new AtomicInteger(0);
+                this.plugin.getStorage().readAllUserData(user -> {
+                    JsonObject line = new JObject()
+                            .add("type", "user")
+                            .add("uuid", user.getUniqueId().toString())
+                            .consume(obj -> {
+                                if (user.getUsername() != null) {
+                                    obj.add("username", user.getUsername());
+                                }
+                                if (user.getPrimaryGroup() != null && !user.getPrimaryGroup().equalsIgnoreCase(GroupManager.DEFAULT_GROUP_NAME)) {
+                                    obj.add("primaryGroup", user.getPrimaryGroup());
+                                }
+                            })
+                            .add("nodes", NodeJsonSerializer.serializeNodes(user.getNodes()))
+                            .toJson();
+
+                    try {
+                        writeLine(out, line);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+
+                    int count = userCount.incrementAndGet();
+                    if (count % 10000 == 0) {
+                        this.log.logAllProgress("Exported {} users so far.", count);
+                    }
+                }).join();
+
+                this.log.log("Exported " + userCount.get() + " users.");
+            }
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            this.log.getListeners().forEach(l -> Message.LOG_EXPORT_FAILURE.send(l));
+            return;
+        }
+
+        this.log.getListeners().forEach(l -> Message.LOG_EXPORT_SUCCESS.send(l, this.filePath.toFile().getAbsolutePath()));
+    }
+
+    private static void writeLine(Writer writer, JsonObject object) throws IOException {
+        GsonProvider.normal().toJson(object, writer);
+        writer.write('\n');
+    }
+
     public static CommandResult post(JsonObject payload, Sender sender, LuckPermsPlugin plugin, String label) {
         ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
         try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytesOut), StandardCharsets.UTF_8)) {
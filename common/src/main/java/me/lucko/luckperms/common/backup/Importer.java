@@ -37,12 +37,21 @@ import me.lucko.luckperms.common.model.Track;
 import me.lucko.luckperms.common.model.User;
 import me.lucko.luckperms.common.node.utils.NodeJsonSerializer;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
+import me.lucko.luckperms.common.plugin.scheduler.SchedulerTask;
 import me.lucko.luckperms.common.sender.Sender;
+import me.lucko.luckperms.common.storage.misc.StoredUserData;
+import me.lucko.luckperms.common.util.gson.GsonProvider;
 
 import net.luckperms.api.event.cause.CreationCause;
 import net.luckperms.api.model.data.DataType;
 import net.luckperms.api.node.Node;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -58,18 +67,38 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Handles import operations
  */
 public class Importer implements Runnable {
+    private static final int STREAM_BATCH_SIZE = 1000;
 
     private final LuckPermsPlugin plugin;
     private final Set<Sender> notify;
     private final JsonObject data;
+    private final Path streamPath;
     private final boolean merge;
 
     public Importer(LuckPermsPlugin plugin, Sender executor, JsonObject data, boolean merge) {
+        this(plugin, executor, data, null, merge);
+    }
+
+    /**
+     * Creates an importer which streams newline-delimited json entries from
+     * the given file, as written by a streaming {@link Exporter}.
+     *
+     * @param plugin the plugin
+     * @param executor the sender running the import
+     * @param streamPath the gzipped file to read from
+     * @param merge if the data should be merged into existing data
+     */
+    public Importer(LuckPermsPlugin plugin, Sender executor, Path streamPath, boolean merge) {
+        this(plugin, executor, null, streamPath, merge);
+    }
+
+    private Importer(LuckPermsPlugin plugin, Sender executor, JsonObject data, Path streamPath, boolean merge) {
         this.plugin = plugin;
 
         if (executor.isConsole()) {
@@ -78,21 +107,10 @@ public class Importer implements Runnable {
             this.notify = ImmutableSet.of(executor, plugin.getConsoleSender());
         }
         this.data = data;
+        this.streamPath = streamPath;
         this.merge = merge;
     }
 
-    private static final class UserData {
-        private final String username;
-        private final String primaryGroup;
-        private final Set<Node> nodes;
-
-        UserData(String username, String primaryGroup, Set<Node> nodes) {
-            this.username = username;
-            this.primaryGroup = primaryGroup;
-            this.nodes = nodes;
-        }
-    }
-
     private void processGroup(String groupName, Set<Node> nodes) {
         Group group = this.plugin.getStorage().createAndLoadGroup(groupName, CreationCause.INTERNAL).join();
         if (this.merge) {
@@ -109,15 +127,15 @@ public class Importer implements Runnable {
         this.plugin.getStorage().saveTrack(track).join();
     }
 
-    private void processUser(UUID uuid, UserData userData) {
-        User user = this.plugin.getStorage().loadUser(uuid, userData.username).join();
-        if (userData.primaryGroup != null) {
-            user.getPrimaryGroup().setStoredValue(userData.primaryGroup);
+    private void processUser(StoredUserData userData) {
+        User user = this.plugin.getStorage().loadUser(userData.getUniqueId(), userData.getUsername()).join();
+        if (userData.getPrimaryGroup() != null) {
+            user.getPrimaryGroup().setStoredValue(userData.getPrimaryGroup());
         }
         if (this.merge) {
-            user.mergeNodes(DataType.NORMAL, userData.nodes);
+            user.mergeNodes(DataType.NORMAL, userData.getNodes());
         } else {
-            user.setNodes(DataType.NORMAL, userData.nodes);
+            user.setNodes(DataType.NORMAL, userData.getNodes());
         }
         this.plugin.getStorage().saveUser(user).join();
         this.plugin.getUserManager().getHouseKeeper().cleanup(user.getUniqueId());
@@ -131,8 +149,34 @@ public class Importer implements Runnable {
         }
     }
 
+    private static StoredUserData readUser(UUID uuid, JsonObject jsonData) {
+        String username = null;
+        String primaryGroup = null;
+        Set<Node> nodes = NodeJsonSerializer.deserializeNodes(jsonData.get("nodes").getAsJsonArray());
+
+        if (jsonData.has("username")) {
+            username = jsonData.get("username").getAsString();
+        }
+        if (jsonData.has("primaryGroup")) {
+            primaryGroup = jsonData.get("primaryGroup").getAsString();
+        }
+
+        return new StoredUserData(uuid, username, primaryGroup, nodes);
+    }
+
+    private static List<String> readTrackGroups(JsonArray trackGroups) {
+        List<String> trackGroupsList = new ArrayList<>();
+        trackGroups.forEach(g -> trackGroupsList.add(g.getAsString()));
+        return trackGroupsList;
+    }
+
     @Override
     public void run() {
+        if (this.streamPath != null) {
+            runStreaming();
+            return;
+        }
+
         long startTime = System.currentTimeMillis();
         this.notify.forEach(s -> Message.IMPORT_START.send(s));
 
@@ -143,33 +187,18 @@ public class Importer implements Runnable {
 
         Map<String, Set<Node>> groups = new HashMap<>();
         Map<String, List<String>> tracks = new HashMap<>();
-        Map<UUID, UserData> users = new HashMap<>();
+        List<StoredUserData> users = new ArrayList<>();
 
         for (Map.Entry<String, JsonElement> group : getDataSection("groups")) {
             groups.put(group.getKey(), NodeJsonSerializer.deserializeNodes(group.getValue().getAsJsonObject().get("nodes").getAsJsonArray()));
         }
         for (Map.Entry<String, JsonElement> track : getDataSection("tracks")) {
-            JsonArray trackGroups = track.getValue().getAsJsonObject().get("groups").getAsJsonArray();
-            List<String> trackGroupsList = new ArrayList<>();
-            trackGroups.forEach(g -> trackGroupsList.add(g.getAsString()));
-            tracks.put(track.getKey(), trackGroupsList);
+            tracks.put(track.getKey(), readTrackGroups(track.getValue().getAsJsonObject().get("groups").getAsJsonArray()));
         }
         for (Map.Entry<String, JsonElement> user : getDataSection("users")) {
             JsonObject jsonData = user.getValue().getAsJsonObject();
 
-            UUID uuid = UUID.fromString(user.getKey());
-            String username = null;
-            String primaryGroup = null;
-            Set<Node> nodes = NodeJsonSerializer.deserializeNodes(jsonData.get("nodes").getAsJsonArray());
-
-            if (jsonData.has("username")) {
-                username = jsonData.get("username").getAsString();
-            }
-            if (jsonData.has("primaryGroup")) {
-                primaryGroup = jsonData.get("primaryGroup").getAsString();
-            }
-
-            users.put(uuid, new UserData(username, primaryGroup, nodes));
+            users.add(readUser(UUID.fromString(user.getKey()), jsonData));
         }
 
         this.notify.forEach(s -> Message.IMPORT_INFO.send(s, "Waiting for initial update task to complete..."));
@@ -202,9 +231,9 @@ public class Importer implements Runnable {
             }, executor));
             total++;
         }
-        for (Map.Entry<UUID, UserData> user : users.entrySet()) {
+        for (StoredUserData user : users) {
             futures.add(CompletableFuture.completedFuture(user).thenAcceptAsync(ent -> {
-                processUser(ent.getKey(), ent.getValue());
+                processUser(ent);
                 processedCount.incrementAndGet();
             }, executor));
             total++;
@@ -224,7 +253,7 @@ public class Importer implements Runnable {
                 break;
             } catch (TimeoutException e) {
                 // still executing - send a progress report and continue waiting
-                sendProgress(processedCount.get(), total);
+                sendProgress(processedCount.get(), total, 0);
                 continue;
             }
 
@@ -240,9 +269,139 @@ public class Importer implements Runnable {
         this.notify.forEach(s -> Message.IMPORT_END_COMPLETE.send(s, seconds));
     }
 
-    private void sendProgress(int processedCount, int total) {
+    private void runStreaming() {
+        long startTime = System.currentTimeMillis();
+        this.notify.forEach(s -> Message.IMPORT_START.send(s));
+
+        this.notify.forEach(s -> Message.IMPORT_INFO.send(s, "Counting entries in " + this.streamPath.getFileName()));
+
+        // count the entries up front, so that progress can be reported as a percentage
+        AtomicInteger total = new AtomicInteger(0);
+        try (BufferedReader reader = openStream()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    total.incrementAndGet();
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            this.notify.forEach(s -> Message.IMPORT_FILE_READ_FAILURE.send(s));
+            return;
+        }
+
+        this.notify.forEach(s -> Message.IMPORT_INFO.send(s, "Waiting for initial update task to complete..."));
+        this.plugin.getSyncTaskBuffer().requestDirectly();
+
+        this.notify.forEach(s -> Message.IMPORT_INFO.send(s, "Streaming data from " + this.streamPath.getFileName()));
+
+        // entries are read and applied in batches, so only one batch is held in memory at a time
+        ExecutorService executor = Executors.newFixedThreadPool(16, new ThreadFactoryBuilder().setNameFormat("luckperms-importer-%d").build());
+        List<Runnable> batch = new ArrayList<>(STREAM_BATCH_SIZE);
+        AtomicInteger processedCount = new AtomicInteger(0);
+        AtomicInteger errorCount = new AtomicInteger(0);
+
+        SchedulerTask progressTask = this.plugin.getBootstrap().getScheduler().asyncRepeating(
+                () -> sendProgress(processedCount.get() + errorCount.get(), total.get(), errorCount.get()),
+                2, TimeUnit.SECONDS
+        );
+
+        try (BufferedReader reader = openStream()) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                JsonObject entry = GsonProvider.normal().fromJson(line, JsonObject.class);
+                switch (entry.get("type").getAsString()) {
+                    case "group": {
+                        String name = entry.get("name").getAsString();
+                        Set<Node> nodes = NodeJsonSerializer.deserializeNodes(entry.get("nodes").getAsJsonArray());
+                        batch.add(() -> processGroup(name, nodes));
+                        break;
+                    }
+                    case "track": {
+                        String name = entry.get("name").getAsString();
+                        List<String> groups = readTrackGroups(entry.get("groups").getAsJsonArray());
+                        batch.add(() -> processTrack(name, groups));
+                        break;
+                    }
+                    case "user": {
+                        StoredUserData user = readUser(UUID.fromString(entry.get("uuid").getAsString()), entry);
+                        batch.add(() -> processUser(user));
+                        break;
+                    }
+                    default:
+                        // metadata, not an entry to import
+                        total.decrementAndGet();
+                        break;
+                }
+
+                if (batch.size() >= STREAM_BATCH_SIZE) {
+                    processBatch(batch, executor, processedCount, errorCount);
+                }
+            }
+            processBatch(batch, executor, processedCount, errorCount);
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            this.notify.forEach(s -> Message.IMPORT_FILE_READ_FAILURE.send(s));
+            return;
+        } finally {
+            progressTask.cancel();
+            executor.shutdown();
+        }
+
+        int imported = processedCount.get();
+        this.notify.forEach(s -> Message.IMPORT_INFO.send(s, "Imported " + imported + " entries"));
+
+        long endTime = System.currentTimeMillis();
+        double seconds = (endTime - startTime) / 1000.0;
+
+        int errors = errorCount.get();
+        if (errors == 0) {
+            this.notify.forEach(s -> Message.IMPORT_END_COMPLETE.send(s, seconds));
+        } else if (errors == 1) {
+            this.notify.forEach(s -> Message.IMPORT_END_COMPLETE_ERR_SIN.send(s, seconds, errors));
+        } else {
+            this.notify.forEach(s -> Message.IMPORT_END_COMPLETE_ERR.send(s, seconds, errors));
+        }
+    }
+
+    private BufferedReader openStream() throws IOException {
+        return new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(this.streamPath)), StandardCharsets.UTF_8));
+    }
+
+    private void processBatch(List<Runnable> batch, ExecutorService executor, AtomicInteger processedCount, AtomicInteger errorCount) {
+        CompletableFuture<?>[] futures = batch.stream()
+                .map(task -> CompletableFuture.runAsync(() -> {
+                    try {
+                        task.run();
+                        processedCount.incrementAndGet();
+                    } catch (Exception e) {
+                        // an individual entry failed - log and carry on with the rest
+                        this.plugin.getLogger().warn("Exception whilst importing an entry");
+                        e.printStackTrace();
+                        errorCount.incrementAndGet();
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+
+        batch.clear();
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private void sendProgress(int processedCount, int total, int errors) {
+        if (total <= 0) {
+            return;
+        }
+
         int percent = (processedCount * 100) / total;
-        this.notify.forEach(s -> Message.IMPORT_PROGRESS.send(s, percent, processedCount, total, 0));
+        if (errors == 1) {
+            this.notify.forEach(s -> Message.IMPORT_PROGRESS_SIN.send(s, percent, processedCount, total, errors));
+        } else {
+            this.notify.forEach(s -> Message.IMPORT_PROGRESS.send(s, percent, processedCount, total, errors));
+        }
     }
 
 }
@@ -27,11 +27,16 @@ package me.lucko.luckperms.common.bulkupdate;
 
 import me.lucko.luckperms.common.bulkupdate.action.Action;
 import me.lucko.luckperms.common.bulkupdate.query.Query;
+import me.lucko.luckperms.common.model.HolderType;
 
 import net.luckperms.api.node.Node;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents a query to be applied to a set of data.
@@ -48,10 +53,30 @@ public final class BulkUpdate {
     // a set of constraints which data must match to be acted upon
     private final List<Query> queries;
 
+    // if the update should only count the data it would affect, without making changes
+    private final boolean dryRun;
+
+    // the holders and nodes affected by the update
+    private final BulkUpdateStatistics statistics = new BulkUpdateStatistics();
+
     public BulkUpdate(DataType dataType, Action action, List<Query> queries) {
+        this(dataType, action, queries, false);
+    }
+
+    public BulkUpdate(DataType dataType, Action action, List<Query> queries, boolean dryRun) {
         this.dataType = dataType;
         this.action = action;
         this.queries = queries;
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Creates a copy of this update which only counts the data it would affect.
+     *
+     * @return a dry run copy of this update
+     */
+    public BulkUpdate asDryRun() {
+        return new BulkUpdate(this.dataType, this.action, this.queries, true);
     }
 
     /**
@@ -83,6 +108,39 @@ public final class BulkUpdate {
         return this.action.apply(from);
     }
 
+    /**
+     * Applies this query to a holder's nodes, and returns the result.
+     *
+     * <p>If a holder type is given, the number of affected nodes is recorded
+     * in the {@link #getStatistics() statistics}.</p>
+     *
+     * @param nodes the holder's nodes
+     * @param holderType the type of the holder, or null
+     * @return the new nodes, or null if no changes were made
+     */
+    public @Nullable Set<Node> apply(Set<Node> nodes, @Nullable HolderType holderType) {
+        Set<Node> results = new HashSet<>(nodes.size());
+        int affected = 0;
+        for (Node node : nodes) {
+            Node result = apply(node);
+            if (!node.equals(result)) {
+                affected++;
+            }
+            if (result != null) {
+                results.add(result);
+            }
+        }
+
+        if (affected == 0 || nodes.equals(results)) {
+            return null;
+        }
+
+        if (holderType != null) {
+            this.statistics.record(holderType, 1, affected);
+        }
+        return results;
+    }
+
     /**
      * Converts this {@link BulkUpdate} to SQL syntax
      *
@@ -98,9 +156,31 @@ public final class BulkUpdate {
         // (DELETE FROM or UPDATE)
         this.action.appendSql(builder);
 
+        appendConstraintsSql(builder);
+        return builder;
+    }
+
+    /**
+     * Converts this {@link BulkUpdate} to an SQL query which counts the rows
+     * and distinct holders it would affect.
+     *
+     * @param holderColumn the column identifying the holder
+     * @return the count query in SQL form
+     */
+    public PreparedStatementBuilder buildAsSqlCount(String holderColumn) {
+        // SELECT COUNT(*), COUNT(DISTINCT {holder}) FROM {table} WHERE ...
+
+        PreparedStatementBuilder builder = new PreparedStatementBuilder();
+        builder.append("SELECT COUNT(*), COUNT(DISTINCT " + holderColumn + ") FROM {table}");
+
+        appendConstraintsSql(builder);
+        return builder;
+    }
+
+    private void appendConstraintsSql(PreparedStatementBuilder builder) {
         // if there are no constraints, just return without a WHERE clause
         if (this.queries.isEmpty()) {
-            return builder;
+            return;
         }
 
         // append constraints
@@ -115,8 +195,6 @@ public final class BulkUpdate {
 
             query.appendSql(builder);
         }
-
-        return builder;
     }
 
     public DataType getDataType() {
@@ -131,6 +209,14 @@ public final class BulkUpdate {
         return this.queries;
     }
 
+    public boolean isDryRun() {
+        return this.dryRun;
+    }
+
+    public BulkUpdateStatistics getStatistics() {
+        return this.statistics;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this) return true;
@@ -139,12 +225,13 @@ public final class BulkUpdate {
 
         return this.getDataType() == that.getDataType() &&
                 Objects.equals(this.getAction(), that.getAction()) &&
-                Objects.equals(this.getQueries(), that.getQueries());
+                Objects.equals(this.getQueries(), that.getQueries()) &&
+                this.isDryRun() == that.isDryRun();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getDataType(), getAction(), getQueries());
+        return Objects.hash(getDataType(), getAction(), getQueries(), isDryRun());
     }
 
     @Override
@@ -152,6 +239,7 @@ public final class BulkUpdate {
         return "BulkUpdate(" +
                 "dataType=" + this.getDataType() + ", " +
                 "action=" + this.getAction() + ", " +
-                "constraints=" + this.getQueries() + ")";
+                "constraints=" + this.getQueries() + ", " +
+                "dryRun=" + this.isDryRun() + ")";
     }
 }
@@ -0,0 +1,73 @@
+/*
+ * This file is part of LuckPerms, licensed under the MIT License.
+ *
+ *  Copyright (c) lucko (Luck) <luck@lucko.me>
+ *  Copyright (c) contributors
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+
+package me.lucko.luckperms.common.bulkupdate;
+
+import me.lucko.luckperms.common.model.HolderType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records the number of holders and nodes affected by a {@link BulkUpdate}.
+ */
+public final class BulkUpdateStatistics {
+    private final AtomicInteger affectedUsers = new AtomicInteger();
+    private final AtomicInteger affectedGroups = new AtomicInteger();
+    private final AtomicInteger affectedUserNodes = new AtomicInteger();
+    private final AtomicInteger affectedGroupNodes = new AtomicInteger();
+
+    /**
+     * Records that the given number of holders and nodes were affected.
+     *
+     * @param type the type of the holders
+     * @param holders the number of holders affected
+     * @param nodes the number of nodes affected
+     */
+    public void record(HolderType type, int holders, int nodes) {
+        if (type == HolderType.USER) {
+            this.affectedUsers.addAndGet(holders);
+            this.affectedUserNodes.addAndGet(nodes);
+        } else {
+            this.affectedGroups.addAndGet(holders);
+            this.affectedGroupNodes.addAndGet(nodes);
+        }
+    }
+
+    public int getAffectedUsers() {
+        return this.affectedUsers.get();
+    }
+
+    public int getAffectedGroups() {
+        return this.affectedGroups.get();
+    }
+
+    public int getAffectedUserNodes() {
+        return this.affectedUserNodes.get();
+    }
+
+    public int getAffectedGroupNodes() {
+        return this.affectedGroupNodes.get();
+    }
+}
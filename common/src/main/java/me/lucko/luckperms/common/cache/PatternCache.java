@@ -25,23 +25,36 @@
 
 package me.lucko.luckperms.common.cache;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import me.lucko.luckperms.common.util.CaffeineFactory;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 public final class PatternCache {
     private PatternCache() {}
 
-    private static final Map<String, CachedPattern> CACHE = LoadingMap.of(s -> {
-        try {
-            return new CachedPattern(Pattern.compile(s));
-        } catch (PatternSyntaxException e) {
-            return new CachedPattern(e);
-        }
-    });
+    /**
+     * Compiled patterns, shared between all regex nodes and processors.
+     *
+     * <p>Bounded so that patterns no longer referenced by any node are
+     * eventually released.</p>
+     */
+    private static final LoadingCache<String, CachedPattern> CACHE = CaffeineFactory.newBuilder()
+            .maximumSize(10000)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build(s -> {
+                try {
+                    return new CachedPattern(Pattern.compile(s), literalPrefix(s));
+                } catch (PatternSyntaxException e) {
+                    return new CachedPattern(e);
+                }
+            });
 
     public static CachedPattern lookup(String regex) {
         CachedPattern pattern = CACHE.get(regex);
@@ -58,17 +71,88 @@ public final class PatternCache {
         }
     }
 
+    /**
+     * Extracts the literal prefix which any string matched in full by the
+     * given regex must start with.
+     *
+     * <p>The extraction is conservative - an empty string is returned for
+     * any pattern which may match something without a fixed prefix.</p>
+     *
+     * @param regex the regex
+     * @return the literal prefix
+     */
+    static String literalPrefix(String regex) {
+        if (hasTopLevelAlternation(regex)) {
+            return "";
+        }
+
+        StringBuilder prefix = new StringBuilder();
+        int i = regex.startsWith("^") ? 1 : 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            int next = i + 1;
+
+            char literal;
+            if (c == '\\') {
+                // only escaped punctuation is a literal - letters & digits are classes or references
+                if (next >= regex.length() || Character.isLetterOrDigit(regex.charAt(next))) {
+                    break;
+                }
+                literal = regex.charAt(next);
+                next++;
+            } else if ("[](){}.*+?^$".indexOf(c) != -1) {
+                break;
+            } else {
+                literal = c;
+            }
+
+            // a quantified character is optional or repeated, so can't be part of the prefix
+            if (next < regex.length() && "*+?{".indexOf(regex.charAt(next)) != -1) {
+                break;
+            }
+
+            prefix.append(literal);
+            i = next;
+        }
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(String regex) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public static final class CachedPattern {
         private final Pattern instance;
+        private final String literalPrefix;
         private final PatternSyntaxException ex;
 
-        CachedPattern(Pattern instance) {
+        CachedPattern(Pattern instance, String literalPrefix) {
             this.instance = instance;
+            this.literalPrefix = literalPrefix;
             this.ex = null;
         }
 
         CachedPattern(PatternSyntaxException ex) {
             this.instance = null;
+            this.literalPrefix = "";
             this.ex = ex;
         }
 
@@ -76,6 +160,16 @@ public final class PatternCache {
             return this.instance;
         }
 
+        /**
+         * Gets the literal prefix that all strings matching the pattern
+         * start with, or an empty string if there isn't one.
+         *
+         * @return the literal prefix
+         */
+        public String getLiteralPrefix() {
+            return this.literalPrefix;
+        }
+
         public @Nullable PatternSyntaxException getException() {
             return this.ex;
         }
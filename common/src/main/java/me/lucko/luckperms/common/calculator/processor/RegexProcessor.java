@@ -26,8 +26,8 @@
 package me.lucko.luckperms.common.calculator.processor;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Maps;
 
+import me.lucko.luckperms.common.cache.PatternCache;
 import me.lucko.luckperms.common.calculator.result.TristateResult;
 import me.lucko.luckperms.common.node.types.RegexPermission;
 
@@ -41,13 +41,13 @@ import java.util.regex.Pattern;
 public class RegexProcessor extends AbstractPermissionProcessor implements PermissionProcessor {
     private static final TristateResult.Factory RESULT_FACTORY = new TristateResult.Factory(RegexProcessor.class);
 
-    private List<Map.Entry<Pattern, TristateResult>> regexPermissions = Collections.emptyList();
+    private List<RegexEntry> regexPermissions = Collections.emptyList();
 
     @Override
     public TristateResult hasPermission(String permission) {
-        for (Map.Entry<Pattern, TristateResult> e : this.regexPermissions) {
-            if (e.getKey().matcher(permission).matches()) {
-                return e.getValue();
+        for (RegexEntry e : this.regexPermissions) {
+            if (permission.startsWith(e.prefix) && e.pattern.matcher(permission).matches()) {
+                return e.result;
             }
         }
         return TristateResult.UNDEFINED;
@@ -55,21 +55,39 @@ public class RegexProcessor extends AbstractPermissionProcessor implements Permi
 
     @Override
     public void refresh() {
-        ImmutableList.Builder<Map.Entry<Pattern, TristateResult>> builder = ImmutableList.builder();
+        ImmutableList.Builder<RegexEntry> builder = ImmutableList.builder();
         for (Map.Entry<String, Boolean> e : this.sourceMap.entrySet()) {
-            RegexPermission.Builder regexPerm = RegexPermission.parse(e.getKey());
-            if (regexPerm == null) {
+            String key = e.getKey();
+            if (!key.startsWith(RegexPermission.MARKER_1) && !key.startsWith(RegexPermission.MARKER_2)) {
                 continue;
             }
 
-            Pattern pattern = regexPerm.build().getPattern().orElse(null);
+            // patterns are compiled once and shared between all processors
+            PatternCache.CachedPattern cachedPattern = PatternCache.lookup(key.substring(2));
+            Pattern pattern = cachedPattern.getPattern();
             if (pattern == null) {
                 continue;
             }
 
             TristateResult value = RESULT_FACTORY.result(Tristate.of(e.getValue()), "pattern: " + pattern.pattern());
-            builder.add(Maps.immutableEntry(pattern, value));
+            builder.add(new RegexEntry(pattern, cachedPattern.getLiteralPrefix(), value));
         }
         this.regexPermissions = builder.build();
     }
+
+    /**
+     * A compiled regex permission, with the literal prefix used to skip
+     * permissions which can't possibly match.
+     */
+    private static final class RegexEntry {
+        private final Pattern pattern;
+        private final String prefix;
+        private final TristateResult result;
+
+        RegexEntry(Pattern pattern, String prefix, TristateResult result) {
+            this.pattern = pattern;
+            this.prefix = prefix;
+            this.result = result;
+        }
+    }
 }
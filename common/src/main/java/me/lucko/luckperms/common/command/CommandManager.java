@@ -26,6 +26,9 @@
 package me.lucko.luckperms.common.command;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import me.lucko.luckperms.common.command.abstraction.Command;
 import me.lucko.luckperms.common.command.abstraction.CommandException;
@@ -71,10 +74,15 @@ import net.kyori.text.TextComponent;
 import net.kyori.text.event.ClickEvent;
 import net.kyori.text.event.HoverEvent;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -86,10 +94,46 @@ import java.util.stream.Collectors;
  */
 public class CommandManager {
 
+    // the maximum number of commands which can run at the same time
+    private static final int COMMAND_THREADS = 4;
+
+    // commands which only read data, and can run alongside anything except exclusive commands
+    private static final Set<String> READ_ONLY_COMMANDS = ImmutableSet.of(
+            "info", "editor", "verbose", "tree", "search", "check", "export", "listgroups", "listtracks"
+    );
+
+    // commands which may modify user data - users can be referred to by either name or uuid,
+    // and 'log notify' modifies the sender's own user, so these all share a single target
+    private static final Set<String> USER_COMMANDS = ImmutableSet.of("user", "log");
+    private static final String USER_TARGET = "user";
+
+    // commands which act on a single group or track, given as the next argument
+    private static final Map<String, String> TARGETED_COMMANDS = ImmutableMap.<String, String>builder()
+            .put("group", "group")
+            .put("track", "track")
+            .put("creategroup", "group")
+            .put("deletegroup", "group")
+            .put("createtrack", "track")
+            .put("deletetrack", "track")
+            .build();
+
     private final LuckPermsPlugin plugin;
 
     // the default executor to run commands on
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final ExecutorService executor = Executors.newFixedThreadPool(COMMAND_THREADS, new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("luckperms-command-executor-%d")
+            .build()
+    );
+
+    // the last submitted command for each target, used to run commands against the same target in order
+    private final Map<String, CompletableFuture<?>> targetTails = new HashMap<>();
+    // the last submitted command for each sender, used to run commands from the same sender in order
+    private final Map<UUID, CompletableFuture<?>> senderTails = new HashMap<>();
+    // all commands which are queued or running
+    private final Set<CompletableFuture<?>> inFlight = new HashSet<>();
+    // the last submitted exclusive command, which all later commands have to wait for
+    private CompletableFuture<?> exclusiveTail = CompletableFuture.completedFuture(null);
 
     private final TabCompletions tabCompletions;
 
@@ -140,15 +184,77 @@ public class CommandManager {
     }
 
     public CompletableFuture<CommandResult> executeCommand(Sender sender, String label, List<String> args) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return execute(sender, label, args);
-            } catch (Throwable e) {
-                this.plugin.getLogger().severe("Exception whilst executing command: " + args.toString());
-                e.printStackTrace();
-                return null;
+        applyConvenienceAliases(args, true);
+
+        String command = args.isEmpty() ? "" : args.get(0).toLowerCase();
+        String targetType = TARGETED_COMMANDS.get(command);
+
+        if (USER_COMMANDS.contains(command)) {
+            // serialise with other commands which may modify users
+            return submit(USER_TARGET, false, sender, label, args);
+        } else if (targetType != null && args.size() >= 2) {
+            // serialise with other commands acting on the same target
+            return submit(targetType + ":" + args.get(1).toLowerCase(), false, sender, label, args);
+        } else if (args.isEmpty() || targetType != null || READ_ONLY_COMMANDS.contains(command) || !this.mainCommands.containsKey(command)) {
+            return submit(null, false, sender, label, args);
+        } else {
+            // anything else (import, bulkupdate, sync, migration, etc) may touch any
+            // holder or track, so needs to run on its own. these commands complete
+            // their work before returning, so nothing else runs until they are done
+            return submit(null, true, sender, label, args);
+        }
+    }
+
+    private CompletableFuture<CommandResult> submit(String target, boolean exclusive, Sender sender, String label, List<String> args) {
+        UUID senderId = sender.getUniqueId();
+
+        synchronized (this.inFlight) {
+            CompletableFuture<?> dependency;
+            if (exclusive) {
+                List<CompletableFuture<?>> dependencies = new ArrayList<>(this.inFlight);
+                dependencies.add(this.exclusiveTail);
+                dependency = CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0]));
+            } else {
+                // commands from the same sender always run in the order they were sent,
+                // e.g. 'creategroup vip' followed by 'user Notch parent add vip'
+                CompletableFuture<?> targetTail = target != null ? this.targetTails.getOrDefault(target, this.exclusiveTail) : this.exclusiveTail;
+                CompletableFuture<?> senderTail = this.senderTails.get(senderId);
+                dependency = senderTail == null ? targetTail : CompletableFuture.allOf(targetTail, senderTail);
+            }
+
+            CompletableFuture<CommandResult> future = dependency.handle((r, e) -> null).thenApplyAsync(v -> {
+                try {
+                    return execute(sender, label, args);
+                } catch (Throwable e) {
+                    this.plugin.getLogger().severe("Exception whilst executing command: " + args.toString());
+                    e.printStackTrace();
+                    return null;
+                }
+            }, this.executor);
+
+            if (exclusive) {
+                this.exclusiveTail = future;
+                this.targetTails.clear();
+                this.senderTails.clear();
+            } else {
+                if (target != null) {
+                    this.targetTails.put(target, future);
+                }
+                this.senderTails.put(senderId, future);
             }
-        }, this.executor);
+            this.inFlight.add(future);
+
+            future.whenComplete((r, e) -> {
+                synchronized (this.inFlight) {
+                    this.inFlight.remove(future);
+                    if (target != null) {
+                        this.targetTails.remove(target, future);
+                    }
+                    this.senderTails.remove(senderId, future);
+                }
+            });
+            return future;
+        }
     }
 
     public boolean hasPermissionForAny(Sender sender) {
@@ -156,8 +262,6 @@ public class CommandManager {
     }
 
     private CommandResult execute(Sender sender, String label, List<String> arguments) {
-        applyConvenienceAliases(arguments, true);
-
         // Handle no arguments
         if (arguments.isEmpty() || (arguments.size() == 1 && arguments.get(0).trim().isEmpty())) {
             Message.BLANK.send(sender, "&2Running &b" + AbstractLuckPermsPlugin.getPluginName() + " v" + this.plugin.getBootstrap().getVersion() + "&2.");
@@ -102,7 +102,7 @@ public final class StorageAssistant {
 
         Optional<InternalMessagingService> messagingService = plugin.getMessagingService();
         if (messagingService.isPresent() && plugin.getConfiguration().get(ConfigKeys.AUTO_PUSH_UPDATES)) {
-            messagingService.get().getUpdateBuffer().request();
+            messagingService.get().pushGroupUpdate(group);
         }
     }
 
@@ -120,7 +120,7 @@ public final class StorageAssistant {
 
         Optional<InternalMessagingService> messagingService = plugin.getMessagingService();
         if (messagingService.isPresent() && plugin.getConfiguration().get(ConfigKeys.AUTO_PUSH_UPDATES)) {
-            messagingService.get().getUpdateBuffer().request();
+            messagingService.get().pushTrackUpdate(track);
         }
     }
 
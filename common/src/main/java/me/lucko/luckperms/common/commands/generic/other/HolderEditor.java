@@ -25,8 +25,6 @@
 
 package me.lucko.luckperms.common.commands.generic.other;
 
-import com.google.gson.JsonObject;
-
 import me.lucko.luckperms.common.command.CommandResult;
 import me.lucko.luckperms.common.command.abstraction.ChildCommand;
 import me.lucko.luckperms.common.command.access.ArgumentPermissions;
@@ -119,7 +117,7 @@ public class HolderEditor<T extends PermissionHolder> extends ChildCommand<T> {
 
         Message.EDITOR_START.send(sender);
 
-        JsonObject payload = WebEditor.formPayload(holders, Collections.emptyList(), sender, label, plugin);
+        WebEditor.Payload payload = WebEditor.formPayload(holders, Collections.emptyList(), sender, label, plugin);
         return WebEditor.post(payload, sender, plugin);
     }
 
@@ -29,6 +29,7 @@ import com.github.benmanes.caffeine.cache.Cache;
 
 import me.lucko.luckperms.common.bulkupdate.BulkUpdate;
 import me.lucko.luckperms.common.bulkupdate.BulkUpdateBuilder;
+import me.lucko.luckperms.common.bulkupdate.BulkUpdateStatistics;
 import me.lucko.luckperms.common.bulkupdate.DataType;
 import me.lucko.luckperms.common.bulkupdate.action.DeleteAction;
 import me.lucko.luckperms.common.bulkupdate.action.UpdateAction;
@@ -46,14 +47,22 @@ import me.lucko.luckperms.common.command.utils.ArgumentList;
 import me.lucko.luckperms.common.locale.LocaleManager;
 import me.lucko.luckperms.common.locale.command.CommandSpec;
 import me.lucko.luckperms.common.locale.message.Message;
+import me.lucko.luckperms.common.model.Group;
+import me.lucko.luckperms.common.model.PermissionHolder;
+import me.lucko.luckperms.common.model.User;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 import me.lucko.luckperms.common.sender.Sender;
 import me.lucko.luckperms.common.util.CaffeineFactory;
 import me.lucko.luckperms.common.util.Predicates;
 
+import net.luckperms.api.node.Node;
+
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
+import static net.luckperms.api.model.data.DataType.NORMAL;
+
 public class BulkUpdateCommand extends SingleCommand {
     private final Cache<String, BulkUpdate> pendingOperations = CaffeineFactory.newBuilder().expireAfterWrite(30, TimeUnit.SECONDS).build();
 
@@ -77,16 +86,50 @@ public class BulkUpdateCommand extends SingleCommand {
                 return CommandResult.INVALID_ARGS;
             }
 
+            // wait for the update to complete, so that the command manager keeps
+            // other commands waiting until it has been applied
             Message.BULK_UPDATE_STARTING.send(sender);
-            plugin.getStorage().applyBulkUpdate(operation).whenCompleteAsync((v, ex) -> {
-                if (ex == null) {
-                    plugin.getSyncTaskBuffer().requestDirectly();
-                    Message.BULK_UPDATE_SUCCESS.send(sender);
-                } else {
-                    ex.printStackTrace();
-                    Message.BULK_UPDATE_FAILURE.send(sender);
-                }
-            }, plugin.getBootstrap().getScheduler().async());
+            try {
+                plugin.getStorage().applyBulkUpdate(operation).join();
+            } catch (Exception e) {
+                e.printStackTrace();
+                Message.BULK_UPDATE_FAILURE.send(sender);
+                return CommandResult.FAILURE;
+            }
+
+            applyToLoadedHolders(plugin, operation);
+            Message.BULK_UPDATE_SUCCESS.send(sender);
+            return CommandResult.SUCCESS;
+        }
+
+        if (args.size() == 2 && args.get(0).equalsIgnoreCase("dryrun")) {
+            String id = args.get(1);
+            BulkUpdate operation = this.pendingOperations.getIfPresent(id);
+
+            if (operation == null) {
+                Message.BULK_UPDATE_UNKNOWN_ID.send(sender, id);
+                return CommandResult.INVALID_ARGS;
+            }
+
+            BulkUpdate dryRun = operation.asDryRun();
+
+            Message.BULK_UPDATE_DRY_RUN_STARTING.send(sender);
+            try {
+                plugin.getStorage().applyBulkUpdate(dryRun).join();
+            } catch (Exception e) {
+                e.printStackTrace();
+                Message.BULK_UPDATE_FAILURE.send(sender);
+                return CommandResult.FAILURE;
+            }
+
+            BulkUpdateStatistics statistics = dryRun.getStatistics();
+            Message.BULK_UPDATE_DRY_RUN_RESULT.send(sender,
+                    statistics.getAffectedUserNodes(),
+                    statistics.getAffectedUsers(),
+                    statistics.getAffectedGroupNodes(),
+                    statistics.getAffectedGroups()
+            );
+            Message.BULK_UPDATE_CONFIRM.send(sender, label, id, label, id);
             return CommandResult.SUCCESS;
         }
 
@@ -156,8 +199,54 @@ public class BulkUpdateCommand extends SingleCommand {
         this.pendingOperations.put(id, bulkUpdate);
 
         Message.BULK_UPDATE_QUEUED.send(sender, bulkUpdate.buildAsSql().toReadableString().replace("{table}", bulkUpdate.getDataType().getName()));
-        Message.BULK_UPDATE_CONFIRM.send(sender, label, id);
+        Message.BULK_UPDATE_CONFIRM.send(sender, label, id, label, id);
 
         return CommandResult.SUCCESS;
     }
+
+    /**
+     * Applies a completed bulk update to the holders which are currently loaded,
+     * instead of reloading all data from the storage.
+     *
+     * @param plugin the plugin
+     * @param operation the bulk update
+     */
+    private static void applyToLoadedHolders(LuckPermsPlugin plugin, BulkUpdate operation) {
+        boolean groupChanges = false;
+        if (operation.getDataType().isIncludingGroups()) {
+            for (Group group : plugin.getGroupManager().getAll().values()) {
+                if (applyToHolder(operation, group)) {
+                    groupChanges = true;
+                }
+            }
+        }
+
+        if (operation.getDataType().isIncludingUsers()) {
+            for (User user : plugin.getUserManager().getAll().values()) {
+                applyToHolder(operation, user);
+            }
+        }
+
+        // users inherit from groups, so their caches need to be refreshed too
+        if (groupChanges) {
+            plugin.getGroupManager().invalidateAllGroupCaches();
+            plugin.getUserManager().invalidateAllUserCaches();
+        }
+    }
+
+    private static boolean applyToHolder(BulkUpdate operation, PermissionHolder holder) {
+        // hold the io lock, so the update can't interleave with a load or save of the holder
+        holder.getIoLock().lock();
+        try {
+            Set<Node> results = operation.apply(holder.normalData().asSet(), null);
+            if (results == null) {
+                return false;
+            }
+
+            holder.setNodes(NORMAL, results);
+            return true;
+        } finally {
+            holder.getIoLock().unlock();
+        }
+    }
 }
@@ -25,8 +25,6 @@
 
 package me.lucko.luckperms.common.commands.misc;
 
-import com.google.gson.JsonObject;
-
 import me.lucko.luckperms.common.command.CommandResult;
 import me.lucko.luckperms.common.command.abstraction.SingleCommand;
 import me.lucko.luckperms.common.command.access.ArgumentPermissions;
@@ -171,7 +169,7 @@ public class EditorCommand extends SingleCommand {
 
         Message.EDITOR_START.send(sender);
 
-        JsonObject payload = WebEditor.formPayload(holders, tracks, sender, label, plugin);
+        WebEditor.Payload payload = WebEditor.formPayload(holders, tracks, sender, label, plugin);
         return WebEditor.post(payload, sender, plugin);
     }
 
@@ -58,11 +58,12 @@ public class ExportCommand extends SingleCommand {
 
         boolean includeUsers = !args.remove("--without-users");
         boolean saveFile = !args.remove("--upload");
+        boolean streaming = args.remove("--ndjson");
 
         Exporter exporter;
         if (saveFile) {
             Path dataDirectory = plugin.getBootstrap().getDataDirectory();
-            Path path = dataDirectory.resolve(args.get(0) + ".json.gz");
+            Path path = dataDirectory.resolve(args.get(0) + (streaming ? ".ndjson.gz" : ".json.gz"));
 
             if (!path.getParent().equals(dataDirectory)) {
                 Message.FILE_NOT_WITHIN_DIRECTORY.send(sender, path.toString());
@@ -92,7 +93,7 @@ public class ExportCommand extends SingleCommand {
                 return CommandResult.STATE_ERROR;
             }
 
-            exporter = new Exporter(plugin, sender, path, includeUsers, saveFile);
+            exporter = new Exporter(plugin, sender, path, includeUsers, saveFile, streaming);
         } else {
             if (!this.running.compareAndSet(false, true)) {
                 Message.EXPORT_ALREADY_RUNNING.send(sender);
@@ -102,14 +103,13 @@ public class ExportCommand extends SingleCommand {
             exporter = new Exporter(plugin, sender, includeUsers, saveFile, label);
         }
 
-        // Run the exporter in its own thread.
-        plugin.getBootstrap().getScheduler().executeAsync(() -> {
-            try {
-                exporter.run();
-            } finally {
-                this.running.set(false);
-            }
-        });
+        // Run the exporter on the command thread, so that the command manager
+        // keeps later exclusive commands waiting until the export has completed.
+        try {
+            exporter.run();
+        } finally {
+            this.running.set(false);
+        }
 
         return CommandResult.SUCCESS;
     }
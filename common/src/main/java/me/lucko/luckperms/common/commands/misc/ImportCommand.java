@@ -68,6 +68,7 @@ public class ImportCommand extends SingleCommand {
         boolean fromFile = !args.remove("--upload");
 
         JsonObject data;
+        Path streamPath = null;
         if (fromFile) {
             String fileName = args.get(0);
             Path dataDirectory = plugin.getBootstrap().getDataDirectory();
@@ -78,11 +79,14 @@ public class ImportCommand extends SingleCommand {
                 return CommandResult.INVALID_ARGS;
             }
 
-            // try auto adding the '.json.gz' extension
+            // try auto adding the '.json.gz' or '.ndjson.gz' extension
             if (!Files.exists(path) && !fileName.contains(".")) {
-                Path pathWithDefaultExtension = path.resolveSibling(fileName + ".json.gz");
-                if (Files.exists(pathWithDefaultExtension)) {
-                    path = pathWithDefaultExtension;
+                for (String extension : new String[]{".json.gz", ".ndjson.gz"}) {
+                    Path pathWithDefaultExtension = path.resolveSibling(fileName + extension);
+                    if (Files.exists(pathWithDefaultExtension)) {
+                        path = pathWithDefaultExtension;
+                        break;
+                    }
                 }
             }
 
@@ -101,13 +105,19 @@ public class ImportCommand extends SingleCommand {
                 return CommandResult.STATE_ERROR;
             }
 
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
-                data = GsonProvider.normal().fromJson(reader, JsonObject.class);
-            } catch (IOException e) {
-                e.printStackTrace();
-                Message.IMPORT_FILE_READ_FAILURE.send(sender);
-                this.running.set(false);
-                return CommandResult.FAILURE;
+            if (path.getFileName().toString().endsWith(".ndjson.gz")) {
+                // line-delimited exports are streamed by the importer itself
+                data = null;
+                streamPath = path;
+            } else {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(path)), StandardCharsets.UTF_8))) {
+                    data = GsonProvider.normal().fromJson(reader, JsonObject.class);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    Message.IMPORT_FILE_READ_FAILURE.send(sender);
+                    this.running.set(false);
+                    return CommandResult.FAILURE;
+                }
             }
         } else {
             String code = args.get(0);
@@ -134,16 +144,18 @@ public class ImportCommand extends SingleCommand {
             }
         }
 
-        Importer importer = new Importer(plugin, sender, data, args.contains("--merge"));
-
-        // Run the importer in its own thread.
-        plugin.getBootstrap().getScheduler().executeAsync(() -> {
-            try {
-                importer.run();
-            } finally {
-                this.running.set(false);
-            }
-        });
+        boolean merge = args.contains("--merge");
+        Importer importer = streamPath != null
+                ? new Importer(plugin, sender, streamPath, merge)
+                : new Importer(plugin, sender, data, merge);
+
+        // Run the importer on the command thread, so that the command manager
+        // keeps other commands waiting until the import has completed.
+        try {
+            importer.run();
+        } finally {
+            this.running.set(false);
+        }
 
         return CommandResult.SUCCESS;
     }
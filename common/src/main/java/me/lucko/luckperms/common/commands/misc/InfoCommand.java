@@ -36,7 +36,9 @@ import me.lucko.luckperms.common.locale.message.Message;
 import me.lucko.luckperms.common.messaging.InternalMessagingService;
 import me.lucko.luckperms.common.plugin.AbstractLuckPermsPlugin;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
+import me.lucko.luckperms.common.plugin.scheduler.InstrumentedExecutor;
 import me.lucko.luckperms.common.sender.Sender;
+import me.lucko.luckperms.common.util.CaffeineFactory;
 import me.lucko.luckperms.common.util.DurationFormatter;
 import me.lucko.luckperms.common.util.Predicates;
 
@@ -45,7 +47,10 @@ import net.luckperms.api.extension.Extension;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 public class InfoCommand extends SingleCommand {
@@ -78,9 +83,14 @@ public class InfoCommand extends SingleCommand {
             }
         }
 
+        Message.INFO_MESSAGING.send(sender, plugin.getMessagingService().map(InternalMessagingService::getName).orElse("None"));
+        Map<String, String> messagingMeta = plugin.getMessagingService().map(InternalMessagingService::getMeta).orElse(Collections.emptyMap());
+        for (Map.Entry<String, String> e : messagingMeta.entrySet()) {
+            Message.INFO_MESSAGING_META.send(sender, e.getKey(), formatValue(e.getValue()));
+        }
+
         ImmutableContextSet staticContext = plugin.getContextManager().getStaticContext();
         Message.INFO_MIDDLE.send(sender,
-                plugin.getMessagingService().map(InternalMessagingService::getName).orElse("None"),
                 staticContext.isEmpty() ? "None" : MessageUtils.contextSetToString(plugin.getLocaleManager(), staticContext),
                 plugin.getBootstrap().getPlayerCount(),
                 plugin.getConnectionListener().getUniqueConnections().size(),
@@ -90,6 +100,18 @@ public class InfoCommand extends SingleCommand {
                 plugin.getTrackManager().getAll().size()
         );
 
+        Message.INFO_EXECUTORS.send(sender);
+        List<InstrumentedExecutor> executors = new ArrayList<>(plugin.getBootstrap().getScheduler().getInstrumentedExecutors());
+        executors.add(CaffeineFactory.executor());
+        for (InstrumentedExecutor executor : executors) {
+            Message.INFO_EXECUTOR_ENTRY.send(sender,
+                    executor.getName(),
+                    executor.getQueueDepth(),
+                    String.format("%.2f", executor.getAverageWaitMillis()),
+                    executor.getExecutedCount()
+            );
+        }
+
         return CommandResult.SUCCESS;
     }
 
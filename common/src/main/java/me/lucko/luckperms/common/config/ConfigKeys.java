@@ -34,6 +34,7 @@ import me.lucko.luckperms.common.config.generic.KeyedConfiguration;
 import me.lucko.luckperms.common.config.generic.key.ConfigKey;
 import me.lucko.luckperms.common.config.generic.key.SimpleConfigKey;
 import me.lucko.luckperms.common.graph.TraversalAlgorithm;
+import me.lucko.luckperms.common.messaging.message.MessageEncoding;
 import me.lucko.luckperms.common.metastacking.SimpleMetaStackDefinition;
 import me.lucko.luckperms.common.metastacking.StandardStackElements;
 import me.lucko.luckperms.common.model.PrimaryGroupHolder;
@@ -430,6 +431,22 @@ public final class ConfigKeys {
      */
     public static final ConfigKey<Boolean> VAULT_UNSAFE_LOOKUPS = booleanKey("vault-unsafe-lookups", false);
 
+    /**
+     * If Vault lookups for offline players on the main server thread should be served from the cache,
+     * or a default value, whilst the data loads in the background
+     */
+    public static final ConfigKey<Boolean> VAULT_NON_BLOCKING_LOOKUPS = booleanKey("vault-non-blocking-lookups", false);
+
+    /**
+     * The maximum number of offline players to cache data for when handling Vault requests
+     */
+    public static final ConfigKey<Integer> VAULT_OFFLINE_CACHE_SIZE = notReloadable(key(c -> c.getInteger("vault-offline-cache-size", 1000)));
+
+    /**
+     * How many seconds cached offline player data should be used for when handling Vault requests
+     */
+    public static final ConfigKey<Integer> VAULT_OFFLINE_CACHE_EXPIRY = notReloadable(key(c -> c.getInteger("vault-offline-cache-expiry", 300)));
+
     /**
      * Controls which group LuckPerms should use for NPC players when handling Vault requests
      */
@@ -535,6 +552,11 @@ public final class ConfigKeys {
      */
     public static final ConfigKey<Boolean> WATCH_FILES = booleanKey("watch-files", true);
 
+    /**
+     * If a local snapshot of group and track data should be kept, and loaded on startup
+     */
+    public static final ConfigKey<Boolean> WARM_START_SNAPSHOT = notReloadable(booleanKey("warm-start-snapshot", false));
+
     /**
      * If split storage is being used
      */
@@ -563,6 +585,11 @@ public final class ConfigKeys {
      */
     public static final ConfigKey<Boolean> AUTO_PUSH_UPDATES = notReloadable(booleanKey("auto-push-updates", true));
 
+    /**
+     * If updates to a single group or track should be pushed as a targeted message, instead of a general update
+     */
+    public static final ConfigKey<Boolean> PUSH_TARGETED_UPDATES = notReloadable(booleanKey("push-targeted-updates", false));
+
     /**
      * If LuckPerms should push logging entries to connected servers via the messaging service
      */
@@ -573,6 +600,11 @@ public final class ConfigKeys {
      */
     public static final ConfigKey<Boolean> BROADCAST_RECEIVED_LOG_ENTRIES = notReloadable(booleanKey("broadcast-received-log-entries", false));
 
+    /**
+     * The encoding used for outgoing messages sent via the messaging service
+     */
+    public static final ConfigKey<MessageEncoding> MESSAGING_ENCODING = notReloadable(key(c -> MessageEncoding.parse(c.getString("messaging-encoding", "json"))));
+
     /**
      * If redis messaging is enabled
      */
@@ -94,6 +94,19 @@ public abstract class ContextManager<S, P extends S> {
         return getStaticQueryOptions().context();
     }
 
+    /**
+     * Gets the query options a player is predicted to have when they first
+     * join, so their cached data can be calculated in advance during login.
+     *
+     * <p>Platforms which provide player contexts (e.g. the world) should
+     * override this to include their initial values.</p>
+     *
+     * @return the predicted initial query options
+     */
+    public QueryOptions getPredictedInitialQueryOptions() {
+        return getStaticQueryOptions();
+    }
+
     public QueryOptions formQueryOptions(ImmutableContextSet contextSet) {
         return this.plugin.getConfiguration().get(ConfigKeys.GLOBAL_QUERY_OPTIONS).toBuilder().context(contextSet).build();
     }
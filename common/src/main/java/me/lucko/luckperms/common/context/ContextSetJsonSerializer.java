@@ -31,6 +31,7 @@ import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
 
 import me.lucko.luckperms.common.context.contextset.ImmutableContextSetImpl;
 import me.lucko.luckperms.common.context.contextset.MutableContextSetImpl;
@@ -38,6 +39,7 @@ import me.lucko.luckperms.common.context.contextset.MutableContextSetImpl;
 import net.luckperms.api.context.ContextSet;
 import net.luckperms.api.context.MutableContextSet;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -69,6 +71,25 @@ public final class ContextSetJsonSerializer {
         return data;
     }
 
+    public static void writeContextSet(JsonWriter writer, ContextSet contextSet) throws IOException {
+        writer.beginObject();
+        for (Map.Entry<String, Set<String>> entry : contextSet.toMap().entrySet()) {
+            Set<String> values = entry.getValue();
+            int size = values.size();
+
+            if (size == 1) {
+                writer.name(entry.getKey()).value(values.iterator().next());
+            } else if (size > 1) {
+                writer.name(entry.getKey()).beginArray();
+                for (String s : values) {
+                    writer.value(s);
+                }
+                writer.endArray();
+            }
+        }
+        writer.endObject();
+    }
+
     public static ContextSet deserializeContextSet(Gson gson, String json) {
         Objects.requireNonNull(json, "json");
         if (json.equals("{}")) {
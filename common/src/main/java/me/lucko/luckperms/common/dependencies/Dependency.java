@@ -102,13 +102,6 @@ public enum Dependency {
             "/plXxpvDwqYECq+0saN13Y/Qf6F7GthJPc/hjR7SL5s=",
             Relocation.of("text", "net{}kyori{}text")
     ),
-    EVENT(
-            "net{}kyori",
-            "event-api",
-            "3.0.0",
-            "yjvdTdAyktl3iFEQFLHC3qYwwt7/DbCd7Zc8Q4SlIag=",
-            Relocation.of("eventbus", "net{}kyori{}event")
-    ),
     CAFFEINE(
             "com{}github{}ben-manes{}caffeine",
             "caffeine",
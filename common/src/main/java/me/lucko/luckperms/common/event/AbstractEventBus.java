@@ -25,21 +25,26 @@
 
 package me.lucko.luckperms.common.event;
 
+import com.google.common.collect.ImmutableSet;
+
 import me.lucko.luckperms.common.api.LuckPermsApiProvider;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 
-import net.kyori.event.EventSubscriber;
-import net.kyori.event.SimpleEventBus;
 import net.luckperms.api.event.EventBus;
 import net.luckperms.api.event.EventSubscription;
 import net.luckperms.api.event.LuckPermsEvent;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 public abstract class AbstractEventBus<P> implements EventBus, AutoCloseable {
 
@@ -54,9 +59,30 @@ public abstract class AbstractEventBus<P> implements EventBus, AutoCloseable {
     private final LuckPermsApiProvider apiProvider;
 
     /**
-     * The delegate event bus
+     * An empty dispatch table entry
+     */
+    private static final LuckPermsEventSubscription<?>[] NO_SUBSCRIPTIONS = new LuckPermsEventSubscription<?>[0];
+
+    /**
+     * All registered subscriptions, in registration order.
+     *
+     * <p>Replaced (never mutated) whilst holding the {@link #subscriptionsLock}.</p>
+     */
+    private volatile List<LuckPermsEventSubscription<?>> subscriptions = Collections.emptyList();
+
+    /**
+     * The dispatch table - maps a concrete event type to the subscriptions
+     * which should be called when an event of that type is posted.
+     *
+     * <p>Entries are computed on first use, and the whole table is swapped
+     * for a new one whenever the set of subscriptions changes.</p>
+     */
+    private volatile Map<Class<?>, LuckPermsEventSubscription<?>[]> dispatchTable = new ConcurrentHashMap<>();
+
+    /**
+     * Lock guarding modifications to {@link #subscriptions}
      */
-    private final Bus bus = new Bus();
+    private final Object subscriptionsLock = new Object();
 
     protected AbstractEventBus(LuckPermsPlugin plugin, LuckPermsApiProvider apiProvider) {
         this.plugin = plugin;
@@ -81,11 +107,41 @@ public abstract class AbstractEventBus<P> implements EventBus, AutoCloseable {
     protected abstract P checkPlugin(Object plugin) throws IllegalArgumentException;
 
     public void post(LuckPermsEvent event) {
-        this.bus.post(event);
+        LuckPermsEventSubscription<?>[] handlers = getDispatchEntry(event.getEventType());
+        for (LuckPermsEventSubscription<?> handler : handlers) {
+            //noinspection unchecked
+            ((LuckPermsEventSubscription<LuckPermsEvent>) handler).invoke(event);
+        }
     }
 
     public boolean shouldPost(Class<? extends LuckPermsEvent> eventClass) {
-        return this.bus.hasSubscribers(eventClass);
+        return getDispatchEntry(eventClass).length != 0;
+    }
+
+    private LuckPermsEventSubscription<?>[] getDispatchEntry(Class<?> eventClass) {
+        // the subscription list is always replaced before the table, so an entry
+        // computed here can never be stale for the table it is stored in
+        Map<Class<?>, LuckPermsEventSubscription<?>[]> table = this.dispatchTable;
+        LuckPermsEventSubscription<?>[] entry = table.get(eventClass);
+        if (entry == null) {
+            entry = table.computeIfAbsent(eventClass, this::computeDispatchEntry);
+        }
+        return entry;
+    }
+
+    private LuckPermsEventSubscription<?>[] computeDispatchEntry(Class<?> eventClass) {
+        List<LuckPermsEventSubscription<?>> handlers = new ArrayList<>();
+        for (LuckPermsEventSubscription<?> subscription : this.subscriptions) {
+            if (subscription.getEventClass().isAssignableFrom(eventClass)) {
+                handlers.add(subscription);
+            }
+        }
+        return handlers.isEmpty() ? NO_SUBSCRIPTIONS : handlers.toArray(NO_SUBSCRIPTIONS);
+    }
+
+    private void updateSubscriptions(List<LuckPermsEventSubscription<?>> subscriptions) {
+        this.subscriptions = Collections.unmodifiableList(subscriptions);
+        this.dispatchTable = new ConcurrentHashMap<>();
     }
 
     public void subscribe(LuckPermsEventListener listener) {
@@ -116,14 +172,23 @@ public abstract class AbstractEventBus<P> implements EventBus, AutoCloseable {
         }
 
         LuckPermsEventSubscription<T> eventHandler = new LuckPermsEventSubscription<>(this, eventClass, handler, plugin);
-        this.bus.register(eventClass, eventHandler);
+        synchronized (this.subscriptionsLock) {
+            List<LuckPermsEventSubscription<?>> subscriptions = new ArrayList<>(this.subscriptions);
+            subscriptions.add(eventHandler);
+            updateSubscriptions(subscriptions);
+        }
 
         return eventHandler;
     }
 
     @Override
     public @NonNull <T extends LuckPermsEvent> Set<EventSubscription<T>> getSubscriptions(@NonNull Class<T> eventClass) {
-        return this.bus.getHandlers(eventClass);
+        ImmutableSet.Builder<EventSubscription<T>> handlers = ImmutableSet.builder();
+        for (LuckPermsEventSubscription<?> handler : getDispatchEntry(eventClass)) {
+            //noinspection unchecked
+            handlers.add((EventSubscription<T>) handler);
+        }
+        return handlers.build();
     }
 
     /**
@@ -132,7 +197,7 @@ public abstract class AbstractEventBus<P> implements EventBus, AutoCloseable {
      * @param handler the handler to remove
      */
     public void unregisterHandler(LuckPermsEventSubscription<?> handler) {
-        this.bus.unregister(handler);
+        unregisterMatching(sub -> sub == handler);
     }
 
     /**
@@ -141,30 +206,22 @@ public abstract class AbstractEventBus<P> implements EventBus, AutoCloseable {
      * @param plugin the plugin
      */
     protected void unregisterHandlers(P plugin) {
-        this.bus.unregister(sub -> ((LuckPermsEventSubscription<?>) sub).getPlugin() == plugin);
+        unregisterMatching(sub -> sub.getPlugin() == plugin);
     }
 
-    @Override
-    public void close() {
-        this.bus.unregisterAll();
-    }
-
-    private static final class Bus extends SimpleEventBus<LuckPermsEvent> {
-        Bus() {
-            super(LuckPermsEvent.class);
-        }
-
-        @Override
-        protected boolean shouldPost(@NonNull LuckPermsEvent event, @NonNull EventSubscriber<?> subscriber) {
-            return true;
+    private void unregisterMatching(Predicate<LuckPermsEventSubscription<?>> predicate) {
+        synchronized (this.subscriptionsLock) {
+            List<LuckPermsEventSubscription<?>> subscriptions = new ArrayList<>(this.subscriptions);
+            if (subscriptions.removeIf(predicate)) {
+                updateSubscriptions(subscriptions);
+            }
         }
+    }
 
-        public <T extends LuckPermsEvent> Set<EventSubscription<T>> getHandlers(Class<T> eventClass) {
-            //noinspection unchecked
-            return super.subscribers().values().stream()
-                    .filter(s -> s instanceof EventSubscription && ((EventSubscription<?>) s).getEventClass().isAssignableFrom(eventClass))
-                    .map(s -> ((EventSubscription<T>) s))
-                    .collect(Collectors.toSet());
+    @Override
+    public void close() {
+        synchronized (this.subscriptionsLock) {
+            updateSubscriptions(new ArrayList<>());
         }
     }
 }
@@ -93,13 +93,26 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 public final class EventDispatcher {
+
+    /**
+     * The window (in milliseconds) in which repeated data recalculate events
+     * for the same holder are coalesced into a single event.
+     */
+    private static final long DATA_RECALCULATE_COALESCE_MILLIS = 50;
+
     private final AbstractEventBus<?> eventBus;
 
+    /** Holders with a data recalculate event already waiting to be posted */
+    private final Set<PermissionHolder> pendingDataRecalculations = ConcurrentHashMap.newKeySet();
+
     public EventDispatcher(AbstractEventBus<?> eventBus) {
         this.eventBus = eventBus;
     }
@@ -121,10 +134,12 @@ public final class EventDispatcher {
             throw new RuntimeException("Cancellable event cannot be posted async (" + eventClass + ")");
         }
 
+        // check for subscribers before scheduling any work
+        if (!shouldPost(eventClass)) {
+            return;
+        }
+
         this.eventBus.getPlugin().getBootstrap().getScheduler().executeAsync(() -> {
-            if (!shouldPost(eventClass)) {
-                return;
-            }
             T event = supplier.get();
             post(event);
         });
@@ -288,13 +303,28 @@ public final class EventDispatcher {
     }
 
     public void dispatchDataRecalculate(PermissionHolder holder) {
-        if (holder.getType() == HolderType.USER) {
-            User user = (User) holder;
-            post(UserDataRecalculateEvent.class, () -> generate(UserDataRecalculateEvent.class, user.getApiProxy(), user.getCachedData()));
-        } else {
-            Group group = (Group) holder;
-            post(GroupDataRecalculateEvent.class, () -> generate(GroupDataRecalculateEvent.class, group.getApiProxy(), group.getCachedData()));
+        Class<? extends LuckPermsEvent> eventClass = holder.getType() == HolderType.USER ? UserDataRecalculateEvent.class : GroupDataRecalculateEvent.class;
+        if (!shouldPost(eventClass)) {
+            return;
+        }
+
+        // holders are often invalidated many times in quick succession (e.g. during a sync),
+        // only post one event for each holder in the coalesce window.
+        if (!this.pendingDataRecalculations.add(holder)) {
+            return;
         }
+
+        this.eventBus.getPlugin().getBootstrap().getScheduler().asyncLater(() -> {
+            this.pendingDataRecalculations.remove(holder);
+
+            if (holder.getType() == HolderType.USER) {
+                User user = (User) holder;
+                post(generate(UserDataRecalculateEvent.class, user.getApiProxy(), user.getCachedData()));
+            } else {
+                Group group = (Group) holder;
+                post(generate(GroupDataRecalculateEvent.class, group.getApiProxy(), group.getCachedData()));
+            }
+        }, DATA_RECALCULATE_COALESCE_MILLIS, TimeUnit.MILLISECONDS);
     }
 
     public void dispatchUserFirstLogin(UUID uniqueId, String username) {
@@ -25,7 +25,6 @@
 
 package me.lucko.luckperms.common.event;
 
-import net.kyori.event.EventSubscriber;
 import net.luckperms.api.event.EventSubscription;
 import net.luckperms.api.event.LuckPermsEvent;
 
@@ -40,7 +39,7 @@ import java.util.function.Consumer;
  *
  * @param <T> the event type
  */
-public class LuckPermsEventSubscription<T extends LuckPermsEvent> implements EventSubscription<T>, EventSubscriber<T> {
+public class LuckPermsEventSubscription<T extends LuckPermsEvent> implements EventSubscription<T> {
 
     /**
      * The event bus which created this handler
@@ -89,8 +88,7 @@ public class LuckPermsEventSubscription<T extends LuckPermsEvent> implements Eve
         this.eventBus.unregisterHandler(this);
     }
 
-    @Override
-    public void invoke(@NonNull T event) throws Throwable {
+    public void invoke(@NonNull T event) {
         try {
             this.consumer.accept(event);
         } catch (Throwable t) {
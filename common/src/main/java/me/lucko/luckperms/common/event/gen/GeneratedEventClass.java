@@ -57,15 +57,23 @@ import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 /**
  * Holds the generated event class for a given type of {@link LuckPermsEvent}.
+ *
+ * <p>Implementations for the known event types are generated at build time
+ * (see the 'generateEventClasses' task in the build script), and are simply
+ * looked up. Any other event types are generated at runtime using ByteBuddy.</p>
  */
-public class GeneratedEventClass {
+public abstract class GeneratedEventClass {
 
     /**
      * A loading cache of event types to {@link GeneratedEventClass}es.
      */
     private static final Map<Class<? extends LuckPermsEvent>, GeneratedEventClass> CACHE = LoadingMap.of(clazz -> {
         try {
-            return new GeneratedEventClass(clazz);
+            Class<? extends AbstractEvent> compiledClass = findCompiledClass(clazz);
+            if (compiledClass != null) {
+                return new Precompiled(compiledClass);
+            }
+            return new RuntimeGenerated(clazz);
         } catch (Throwable e) {
             throw new RuntimeException(e);
         }
@@ -91,69 +99,36 @@ public class GeneratedEventClass {
     }
 
     /**
-     * A method handle for the constructor of the event class.
+     * Gets the name of the generated class for the given event type.
+     *
+     * @param eventClass the event type
+     * @return the generated class name
      */
-    private final MethodHandle constructor;
+    private static String getGeneratedClassName(Class<? extends LuckPermsEvent> eventClass) {
+        String eventClassSuffix = eventClass.getName().substring(LuckPermsEvent.class.getPackage().getName().length());
+        return GeneratedEventClass.class.getPackage().getName() + eventClassSuffix;
+    }
 
     /**
-     * An array of {@link MethodHandle}s, which can set values for each of the properties in the event class.
+     * Attempts to find an implementation of the given event type which was
+     * generated at build time.
+     *
+     * @param eventClass the event type
+     * @return the class, or null if one doesn't exist
      */
-    private final MethodHandle[] setters;
-
-    private GeneratedEventClass(Class<? extends LuckPermsEvent> eventClass) throws Throwable {
-        // get a TypeDescription for the event class
-        TypeDescription eventClassType = new TypeDescription.ForLoadedType(eventClass);
-
-        // determine a generated class name of the event
-        String eventClassSuffix = eventClass.getName().substring(LuckPermsEvent.class.getPackage().getName().length());
-        String generatedClassName = GeneratedEventClass.class.getPackage().getName() + eventClassSuffix;
-
-        DynamicType.Builder<AbstractEvent> builder = new ByteBuddy(ClassFileVersion.JAVA_V8)
-                // create a subclass of AbstractEvent
-                .subclass(AbstractEvent.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
-                // using the predetermined generated class name
-                .name(generatedClassName)
-                // implement the event interface
-                .implement(eventClassType)
-                // implement all methods annotated with Param by simply returning the value from the corresponding field with the same name
-                .method(isAnnotatedWith(Param.class))
-                    .intercept(FieldAccessor.of(NamedElement.WithRuntimeName::getInternalName))
-                // implement LuckPermsEvent#getEventType by returning the event class type
-                .method(named("getEventType").and(returns(Class.class)).and(takesArguments(0)))
-                    .intercept(FixedValue.value(eventClassType))
-                // implement AbstractEvent#mh by calling & returning the value of MethodHandles.lookup()
-                .method(named("mhl").and(returns(MethodHandles.Lookup.class)).and(takesArguments(0)))
-                    .intercept(MethodCall.invoke(MethodHandles.class.getMethod("lookup")))
-                // implement a toString method
-                .withToString();
-
-        // get a sorted array of all methods on the event interface annotated with @Param
-        Method[] properties = Arrays.stream(eventClass.getMethods())
-                .filter(m -> m.isAnnotationPresent(Param.class))
-                .sorted(Comparator.comparingInt(o -> o.getAnnotation(Param.class).value()))
-                .toArray(Method[]::new);
-
-        // for each property, define a field on the generated class to hold the value
-        for (Method method : properties) {
-            builder = builder.defineField(method.getName(), method.getReturnType(), Visibility.PRIVATE);
+    @SuppressWarnings("unchecked")
+    private static Class<? extends AbstractEvent> findCompiledClass(Class<? extends LuckPermsEvent> eventClass) {
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(getGeneratedClassName(eventClass) + "Impl", true, GeneratedEventClass.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
         }
 
-        // finish building, load the class, get a constructor
-        Class<? extends AbstractEvent> generatedClass = builder.make().load(GeneratedEventClass.class.getClassLoader()).getLoaded();
-        this.constructor = MethodHandles.publicLookup().in(generatedClass)
-                .findConstructor(generatedClass, MethodType.methodType(void.class, LuckPerms.class))
-                .asType(MethodType.methodType(AbstractEvent.class, LuckPerms.class));
-
-        // create a dummy instance of the generated class & get the method handle lookup instance
-        MethodHandles.Lookup lookup = ((AbstractEvent) this.constructor.invoke((Object) null)).mhl();
-
-        // get 'setter' MethodHandles for each property
-        this.setters = new MethodHandle[properties.length];
-        for (int i = 0; i < properties.length; i++) {
-            Method method = properties[i];
-            this.setters[i] = lookup.findSetter(generatedClass, method.getName(), method.getReturnType())
-                    .asType(MethodType.methodType(void.class, new Class[]{AbstractEvent.class, Object.class}));
+        if (!eventClass.isAssignableFrom(clazz) || !AbstractEvent.class.isAssignableFrom(clazz)) {
+            return null;
         }
+        return (Class<? extends AbstractEvent>) clazz;
     }
 
     /**
@@ -164,22 +139,118 @@ public class GeneratedEventClass {
      * @return the event instance
      * @throws Throwable if something goes wrong
      */
-    public LuckPermsEvent newInstance(LuckPerms api, Object... properties) throws Throwable {
-        if (properties.length != this.setters.length) {
-            throw new IllegalStateException("Unexpected number of properties. given: " + properties.length + ", expected: " + this.setters.length);
+    public abstract LuckPermsEvent newInstance(LuckPerms api, Object... properties) throws Throwable;
+
+    /**
+     * A {@link GeneratedEventClass} for an event implementation generated at build time.
+     */
+    private static final class Precompiled extends GeneratedEventClass {
+
+        /**
+         * A method handle for the constructor of the event class.
+         */
+        private final MethodHandle constructor;
+
+        Precompiled(Class<? extends AbstractEvent> generatedClass) throws Throwable {
+            this.constructor = MethodHandles.publicLookup()
+                    .findConstructor(generatedClass, MethodType.methodType(void.class, LuckPerms.class, Object[].class))
+                    .asType(MethodType.methodType(AbstractEvent.class, LuckPerms.class, Object[].class));
+        }
+
+        @Override
+        public LuckPermsEvent newInstance(LuckPerms api, Object... properties) throws Throwable {
+            return (AbstractEvent) this.constructor.invokeExact(api, properties);
         }
+    }
+
+    /**
+     * A {@link GeneratedEventClass} for an event implementation generated at runtime.
+     */
+    private static final class RuntimeGenerated extends GeneratedEventClass {
+
+        /**
+         * A method handle for the constructor of the event class.
+         */
+        private final MethodHandle constructor;
+
+        /**
+         * An array of {@link MethodHandle}s, which can set values for each of the properties in the event class.
+         */
+        private final MethodHandle[] setters;
+
+        RuntimeGenerated(Class<? extends LuckPermsEvent> eventClass) throws Throwable {
+            // get a TypeDescription for the event class
+            TypeDescription eventClassType = new TypeDescription.ForLoadedType(eventClass);
+
+            // determine a generated class name of the event
+            String generatedClassName = getGeneratedClassName(eventClass);
 
-        // create a new instance of the event
-        final AbstractEvent event = (AbstractEvent) this.constructor.invokeExact(api);
+            DynamicType.Builder<AbstractEvent> builder = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                    // create a subclass of AbstractEvent
+                    .subclass(AbstractEvent.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING)
+                    // using the predetermined generated class name
+                    .name(generatedClassName)
+                    // implement the event interface
+                    .implement(eventClassType)
+                    // implement all methods annotated with Param by simply returning the value from the corresponding field with the same name
+                    .method(isAnnotatedWith(Param.class))
+                        .intercept(FieldAccessor.of(NamedElement.WithRuntimeName::getInternalName))
+                    // implement LuckPermsEvent#getEventType by returning the event class type
+                    .method(named("getEventType").and(returns(Class.class)).and(takesArguments(0)))
+                        .intercept(FixedValue.value(eventClassType))
+                    // implement AbstractEvent#mh by calling & returning the value of MethodHandles.lookup()
+                    .method(named("mhl").and(returns(MethodHandles.Lookup.class)).and(takesArguments(0)))
+                        .intercept(MethodCall.invoke(MethodHandles.class.getMethod("lookup")))
+                    // implement a toString method
+                    .withToString();
 
-        // set the properties onto the event instance
-        for (int i = 0; i < this.setters.length; i++) {
-            MethodHandle setter = this.setters[i];
-            Object value = properties[i];
-            setter.invokeExact(event, value);
+            // get a sorted array of all methods on the event interface annotated with @Param
+            Method[] properties = Arrays.stream(eventClass.getMethods())
+                    .filter(m -> m.isAnnotationPresent(Param.class))
+                    .sorted(Comparator.comparingInt(o -> o.getAnnotation(Param.class).value()))
+                    .toArray(Method[]::new);
+
+            // for each property, define a field on the generated class to hold the value
+            for (Method method : properties) {
+                builder = builder.defineField(method.getName(), method.getReturnType(), Visibility.PRIVATE);
+            }
+
+            // finish building, load the class, get a constructor
+            Class<? extends AbstractEvent> generatedClass = builder.make().load(GeneratedEventClass.class.getClassLoader()).getLoaded();
+            this.constructor = MethodHandles.publicLookup().in(generatedClass)
+                    .findConstructor(generatedClass, MethodType.methodType(void.class, LuckPerms.class))
+                    .asType(MethodType.methodType(AbstractEvent.class, LuckPerms.class));
+
+            // create a dummy instance of the generated class & get the method handle lookup instance
+            MethodHandles.Lookup lookup = ((AbstractEvent) this.constructor.invoke((Object) null)).mhl();
+
+            // get 'setter' MethodHandles for each property
+            this.setters = new MethodHandle[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                Method method = properties[i];
+                this.setters[i] = lookup.findSetter(generatedClass, method.getName(), method.getReturnType())
+                        .asType(MethodType.methodType(void.class, new Class[]{AbstractEvent.class, Object.class}));
+            }
         }
 
-        return event;
+        @Override
+        public LuckPermsEvent newInstance(LuckPerms api, Object... properties) throws Throwable {
+            if (properties.length != this.setters.length) {
+                throw new IllegalStateException("Unexpected number of properties. given: " + properties.length + ", expected: " + this.setters.length);
+            }
+
+            // create a new instance of the event
+            final AbstractEvent event = (AbstractEvent) this.constructor.invokeExact(api);
+
+            // set the properties onto the event instance
+            for (int i = 0; i < this.setters.length; i++) {
+                MethodHandle setter = this.setters[i];
+                Object value = properties[i];
+                setter.invokeExact(event, value);
+            }
+
+            return event;
+        }
     }
 
 }
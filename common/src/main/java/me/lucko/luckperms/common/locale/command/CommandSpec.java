@@ -98,7 +98,8 @@ public enum CommandSpec {
     EXPORT("Exports all permissions data to an 'export' file. Can be re-imported at a later time.", "/%s export <file>",
             Argument.list(
                     Argument.create("file", true, "the file to export to"),
-                    Argument.create("--without-users", false, "exclude users from the export")
+                    Argument.create("--without-users", false, "exclude users from the export"),
+                    Argument.create("--ndjson", false, "stream the export as line-delimited json")
             )
     ),
     RELOAD_CONFIG("Reload some of the config options", "/%s reloadconfig"),
@@ -228,8 +228,15 @@ public enum Message {
     INFO_EXTENSIONS("&f-  &bExtensions:", true),
     INFO_EXTENSION_ENTRY("     &3{}", true),
 
+    INFO_MESSAGING(
+            "{PREFIX}&f-  &bMessaging:" + "\n" +
+            "{PREFIX}     &3Type: &f{}",
+            false
+    ),
+
+    INFO_MESSAGING_META("     &3{}: {}", true),
+
     INFO_MIDDLE(
-            "{PREFIX}&f-  &bMessaging: &f{}" + "\n" +
             "{PREFIX}&f-  &bInstance:" + "\n" +
             "{PREFIX}     &3Static contexts: &f{}" + "\n" +
             "{PREFIX}     &3Online Players: &a{} &7(&a{}&7 unique)" + "\n" +
@@ -238,6 +245,9 @@ public enum Message {
             false
     ),
 
+    INFO_EXECUTORS("&f-  &bExecutors:", true),
+    INFO_EXECUTOR_ENTRY("     &3{}: &a{} &7queued, &a{}ms &7average wait, &a{} &7executed", true),
+
     DEBUG_START("&bGenerating debugging output...", true),
     DEBUG_URL("&aDebug data URL:", true),
 
@@ -350,12 +360,14 @@ public enum Message {
     BULK_UPDATE_INVALID_CONSTRAINT("&cInvalid constraint &4{}&c. Constraints should be in the format '&f<field> <comparison operator> <value>&c'.", true),
     BULK_UPDATE_INVALID_COMPARISON("&cInvalid comparison operator '&4{}&c'. Expected one of the following: &f==  !=  ~~  ~!", true),
     BULK_UPDATE_QUEUED("&aBulk update operation was queued. &7(&f{}&7)", true),
-    BULK_UPDATE_CONFIRM("&aRun &b/{} bulkupdate confirm {} &ato execute the update.", true),
+    BULK_UPDATE_CONFIRM("&aRun &b/{} bulkupdate confirm {} &ato execute the update, or &b/{} bulkupdate dryrun {} &ato see what it would change.", true),
     BULK_UPDATE_UNKNOWN_ID("&aOperation with id &b{}&a does not exist or has expired.", true),
 
     BULK_UPDATE_STARTING("&aRunning bulk update.", true),
     BULK_UPDATE_SUCCESS("&bBulk update completed successfully.", true),
     BULK_UPDATE_FAILURE("&cBulk update failed. Check the console for errors.", true),
+    BULK_UPDATE_DRY_RUN_STARTING("&aRunning bulk update dry run. No changes will be made.", true),
+    BULK_UPDATE_DRY_RUN_RESULT("&bThe bulk update would affect &a{}&b nodes held by &a{}&b users, and &a{}&b nodes held by &a{}&b groups.", true),
 
     USER_INFO_GENERAL(
             "{PREFIX}&b&l> &bUser Info: &f{}" + "\n" +
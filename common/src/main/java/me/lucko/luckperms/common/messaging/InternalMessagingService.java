@@ -26,12 +26,16 @@
 package me.lucko.luckperms.common.messaging;
 
 import me.lucko.luckperms.common.cache.BufferedRequest;
+import me.lucko.luckperms.common.model.Group;
+import me.lucko.luckperms.common.model.Track;
 import me.lucko.luckperms.common.model.User;
 
 import net.luckperms.api.actionlog.Action;
 import net.luckperms.api.messenger.Messenger;
 import net.luckperms.api.messenger.MessengerProvider;
 
+import java.util.Map;
+
 public interface InternalMessagingService {
 
     /**
@@ -45,6 +49,14 @@ public interface InternalMessagingService {
 
     MessengerProvider getMessengerProvider();
 
+    /**
+     * Gets diagnostic information about the messaging service, to be shown
+     * in the info command.
+     *
+     * @return the meta
+     */
+    Map<String, String> getMeta();
+
     /**
      * Closes the messaging service
      */
@@ -70,6 +82,26 @@ public interface InternalMessagingService {
      */
     void pushUserUpdate(User user);
 
+    /**
+     * Pushes an update for a specific group.
+     *
+     * <p>If targeted updates are disabled, this falls back to requesting a
+     * general update via the {@link #getUpdateBuffer() update buffer}.</p>
+     *
+     * @param group the group
+     */
+    void pushGroupUpdate(Group group);
+
+    /**
+     * Pushes an update for a specific track.
+     *
+     * <p>If targeted updates are disabled, this falls back to requesting a
+     * general update via the {@link #getUpdateBuffer() update buffer}.</p>
+     *
+     * @param track the track
+     */
+    void pushTrackUpdate(Track track);
+
     /**
      * Pushes a log entry to connected servers.
      *
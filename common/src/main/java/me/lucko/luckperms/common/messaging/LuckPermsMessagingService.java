@@ -32,10 +32,20 @@ import me.lucko.luckperms.common.actionlog.LoggedAction;
 import me.lucko.luckperms.common.cache.BufferedRequest;
 import me.lucko.luckperms.common.config.ConfigKeys;
 import me.lucko.luckperms.common.messaging.message.ActionLogMessageImpl;
+import me.lucko.luckperms.common.messaging.message.BinaryMessageCodec;
+import me.lucko.luckperms.common.messaging.message.GroupUpdateMessageImpl;
+import me.lucko.luckperms.common.messaging.message.MessageEncoding;
+import me.lucko.luckperms.common.messaging.message.TrackUpdateMessageImpl;
 import me.lucko.luckperms.common.messaging.message.UpdateMessageImpl;
 import me.lucko.luckperms.common.messaging.message.UserUpdateMessageImpl;
+import me.lucko.luckperms.common.messaging.redis.RedisMessenger;
+import me.lucko.luckperms.common.model.Group;
+import me.lucko.luckperms.common.model.PermissionHolder;
+import me.lucko.luckperms.common.model.Track;
 import me.lucko.luckperms.common.model.User;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
+import me.lucko.luckperms.common.query.QueryOptionsImpl;
+import me.lucko.luckperms.common.util.ExpiringSet;
 import me.lucko.luckperms.common.util.gson.GsonProvider;
 import me.lucko.luckperms.common.util.gson.JObject;
 
@@ -45,35 +55,56 @@ import net.luckperms.api.messenger.Messenger;
 import net.luckperms.api.messenger.MessengerProvider;
 import net.luckperms.api.messenger.message.Message;
 import net.luckperms.api.messenger.message.type.ActionLogMessage;
+import net.luckperms.api.messenger.message.type.GroupUpdateMessage;
+import net.luckperms.api.messenger.message.type.TrackUpdateMessage;
 import net.luckperms.api.messenger.message.type.UpdateMessage;
 import net.luckperms.api.messenger.message.type.UserUpdateMessage;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.util.Collections;
-import java.util.HashSet;
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 public class LuckPermsMessagingService implements InternalMessagingService, IncomingMessageConsumer {
+
+    /**
+     * How long ids of sent or received messages are remembered for.
+     *
+     * Messengers only deliver duplicates within a short window (e.g. the sql
+     * messenger only polls messages from the last 30 seconds), so there is no
+     * need to remember ids for longer than this.
+     */
+    private static final long RECEIVED_MESSAGES_EXPIRY_MINUTES = 5;
+
+    /**
+     * The maximum number of message ids to remember.
+     */
+    private static final long RECEIVED_MESSAGES_MAXIMUM_SIZE = 50_000;
+
     private final LuckPermsPlugin plugin;
     private final Set<UUID> receivedMessages;
     private final PushUpdateBuffer updateBuffer;
+    private final MessageEncoding encoding;
 
     private final MessengerProvider messengerProvider;
     private final Messenger messenger;
 
     public LuckPermsMessagingService(LuckPermsPlugin plugin, MessengerProvider messengerProvider) {
         this.plugin = plugin;
+        this.encoding = plugin.getConfiguration().get(ConfigKeys.MESSAGING_ENCODING);
 
         this.messengerProvider = messengerProvider;
         this.messenger = messengerProvider.obtain(this);
         Objects.requireNonNull(this.messenger, "messenger");
 
-        this.receivedMessages = Collections.synchronizedSet(new HashSet<>());
+        this.receivedMessages = new ExpiringSet<>(RECEIVED_MESSAGES_EXPIRY_MINUTES, TimeUnit.MINUTES, RECEIVED_MESSAGES_MAXIMUM_SIZE);
         this.updateBuffer = new PushUpdateBuffer(plugin);
     }
 
@@ -92,6 +123,16 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
         return this.messengerProvider;
     }
 
+    @Override
+    public Map<String, String> getMeta() {
+        Map<String, String> meta = new LinkedHashMap<>();
+        meta.put("Received Message Ids", String.valueOf(this.receivedMessages.size()));
+        if (this.messenger instanceof RedisMessenger) {
+            meta.putAll(((RedisMessenger) this.messenger).getMeta());
+        }
+        return meta;
+    }
+
     @Override
     public void close() {
         this.messenger.close();
@@ -113,7 +154,7 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
         this.plugin.getBootstrap().getScheduler().executeAsync(() -> {
             UUID requestId = generatePingId();
             this.plugin.getLogger().info("[Messaging] Sending ping with id: " + requestId);
-            this.messenger.sendOutgoingMessage(new UpdateMessageImpl(requestId));
+            this.messenger.sendOutgoingMessage(new UpdateMessageImpl(requestId, this.encoding));
         });
     }
 
@@ -122,7 +163,35 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
         this.plugin.getBootstrap().getScheduler().executeAsync(() -> {
             UUID requestId = generatePingId();
             this.plugin.getLogger().info("[Messaging] Sending user ping for '" + user.getPlainDisplayName() + "' with id: " + requestId);
-            this.messenger.sendOutgoingMessage(new UserUpdateMessageImpl(requestId, user.getUniqueId()));
+            this.messenger.sendOutgoingMessage(new UserUpdateMessageImpl(requestId, this.encoding, user.getUniqueId()));
+        });
+    }
+
+    @Override
+    public void pushGroupUpdate(Group group) {
+        if (!this.plugin.getConfiguration().get(ConfigKeys.PUSH_TARGETED_UPDATES)) {
+            this.updateBuffer.request();
+            return;
+        }
+
+        this.plugin.getBootstrap().getScheduler().executeAsync(() -> {
+            UUID requestId = generatePingId();
+            this.plugin.getLogger().info("[Messaging] Sending group ping for '" + group.getPlainDisplayName() + "' with id: " + requestId);
+            this.messenger.sendOutgoingMessage(new GroupUpdateMessageImpl(requestId, this.encoding, group.getName()));
+        });
+    }
+
+    @Override
+    public void pushTrackUpdate(Track track) {
+        if (!this.plugin.getConfiguration().get(ConfigKeys.PUSH_TARGETED_UPDATES)) {
+            this.updateBuffer.request();
+            return;
+        }
+
+        this.plugin.getBootstrap().getScheduler().executeAsync(() -> {
+            UUID requestId = generatePingId();
+            this.plugin.getLogger().info("[Messaging] Sending track ping for '" + track.getName() + "' with id: " + requestId);
+            this.messenger.sendOutgoingMessage(new TrackUpdateMessageImpl(requestId, this.encoding, track.getName()));
         });
     }
 
@@ -136,7 +205,7 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
             }
 
             this.plugin.getLogger().info("[Messaging] Sending log with id: " + requestId);
-            this.messenger.sendOutgoingMessage(new ActionLogMessageImpl(requestId, logEntry));
+            this.messenger.sendOutgoingMessage(new ActionLogMessageImpl(requestId, this.encoding, logEntry));
         });
     }
 
@@ -151,6 +220,8 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
         // determine if the message can be handled by us
         boolean valid = message instanceof UpdateMessage ||
                 message instanceof UserUpdateMessage ||
+                message instanceof GroupUpdateMessage ||
+                message instanceof TrackUpdateMessage ||
                 message instanceof ActionLogMessage;
 
         // instead of throwing an exception here, just return false
@@ -167,6 +238,10 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
     @Override
     public boolean consumeIncomingMessageAsString(@NonNull String encodedString) {
         Objects.requireNonNull(encodedString, "encodedString");
+        if (BinaryMessageCodec.isBinary(encodedString)) {
+            return consumeIncomingBinaryMessage(encodedString);
+        }
+
         JsonObject decodedObject = GsonProvider.normal().fromJson(encodedString, JsonObject.class).getAsJsonObject();
 
         // extract id
@@ -200,6 +275,12 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
             case UserUpdateMessageImpl.TYPE:
                 decoded = UserUpdateMessageImpl.decode(content, id);
                 break;
+            case GroupUpdateMessageImpl.TYPE:
+                decoded = GroupUpdateMessageImpl.decode(content, id);
+                break;
+            case TrackUpdateMessageImpl.TYPE:
+                decoded = TrackUpdateMessageImpl.decode(content, id);
+                break;
             case ActionLogMessageImpl.TYPE:
                 decoded = ActionLogMessageImpl.decode(content, id);
                 break;
@@ -213,6 +294,52 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
         return true;
     }
 
+    private boolean consumeIncomingBinaryMessage(String encodedString) {
+        BinaryMessageCodec.Frame frame = BinaryMessageCodec.decode(encodedString);
+
+        // gracefully return if the message was encoded by a newer version
+        if (frame == null) {
+            return false;
+        }
+
+        // ensure the message hasn't been received already
+        if (!this.receivedMessages.add(frame.getId())) {
+            return false;
+        }
+
+        // decode message
+        Message decoded;
+        try {
+            DataInput content = frame.content();
+            switch (frame.getType()) {
+                case UpdateMessageImpl.BINARY_TYPE:
+                    decoded = UpdateMessageImpl.decode(content, frame.getId());
+                    break;
+                case UserUpdateMessageImpl.BINARY_TYPE:
+                    decoded = UserUpdateMessageImpl.decode(content, frame.getId());
+                    break;
+                case GroupUpdateMessageImpl.BINARY_TYPE:
+                    decoded = GroupUpdateMessageImpl.decode(content, frame.getId());
+                    break;
+                case TrackUpdateMessageImpl.BINARY_TYPE:
+                    decoded = TrackUpdateMessageImpl.decode(content, frame.getId());
+                    break;
+                case ActionLogMessageImpl.BINARY_TYPE:
+                    decoded = ActionLogMessageImpl.decode(content, frame.getId());
+                    break;
+                default:
+                    // gracefully return if we just don't recognise the type
+                    return false;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to decode incoming message: " + encodedString, e);
+        }
+
+        // consume the message
+        processIncomingMessage(decoded);
+        return true;
+    }
+
     public static String encodeMessageAsString(String type, UUID id, @Nullable JsonElement content) {
         JsonObject json = new JObject()
                 .add("id", id.toString())
@@ -253,6 +380,28 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
             }
 
             this.plugin.getStorage().loadUser(user.getUniqueId(), null);
+        } else if (message instanceof GroupUpdateMessage) {
+            GroupUpdateMessage msg = (GroupUpdateMessage) message;
+
+            this.plugin.getLogger().info("[Messaging] Received group update ping for '" + msg.getGroupName() + "' with id: " + msg.getId());
+
+            if (this.plugin.getEventDispatcher().dispatchNetworkPreSync(false, msg.getId())) {
+                return;
+            }
+
+            // reload the group, then invalidate the caches of holders which inherit from it
+            this.plugin.getStorage().loadGroup(msg.getGroupName()).thenAccept(group -> group.ifPresent(this::invalidateInheritingHolders));
+        } else if (message instanceof TrackUpdateMessage) {
+            TrackUpdateMessage msg = (TrackUpdateMessage) message;
+
+            this.plugin.getLogger().info("[Messaging] Received track update ping for '" + msg.getTrackName() + "' with id: " + msg.getId());
+
+            if (this.plugin.getEventDispatcher().dispatchNetworkPreSync(false, msg.getId())) {
+                return;
+            }
+
+            // tracks don't affect any cached data, so just reload the track
+            this.plugin.getStorage().loadTrack(msg.getTrackName());
         } else if (message instanceof ActionLogMessage) {
             ActionLogMessage msg = (ActionLogMessage) message;
 
@@ -263,6 +412,28 @@ public class LuckPermsMessagingService implements InternalMessagingService, Inco
         }
     }
 
+    private void invalidateInheritingHolders(Group group) {
+        for (Group other : this.plugin.getGroupManager().getAll().values()) {
+            if (other != group && inheritsFrom(other, group)) {
+                other.getCachedData().invalidate();
+            }
+        }
+        for (User user : this.plugin.getUserManager().getAll().values()) {
+            if (inheritsFrom(user, group)) {
+                user.getCachedData().invalidate();
+            }
+        }
+    }
+
+    private static boolean inheritsFrom(PermissionHolder holder, Group group) {
+        for (Group parent : holder.resolveInheritanceTree(QueryOptionsImpl.DEFAULT_NON_CONTEXTUAL)) {
+            if (parent.getName().equals(group.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private final class PushUpdateBuffer extends BufferedRequest<Void> {
         PushUpdateBuffer(LuckPermsPlugin plugin) {
             super(2, TimeUnit.SECONDS, plugin.getBootstrap().getScheduler());
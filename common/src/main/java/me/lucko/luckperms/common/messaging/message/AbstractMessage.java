@@ -25,18 +25,25 @@
 
 package me.lucko.luckperms.common.messaging.message;
 
+import com.google.gson.JsonElement;
+
 import net.luckperms.api.messenger.message.Message;
 import net.luckperms.api.messenger.message.OutgoingMessage;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.UUID;
 
 public abstract class AbstractMessage implements Message, OutgoingMessage {
     private final UUID id;
+    private final MessageEncoding encoding;
 
-    public AbstractMessage(UUID id) {
+    public AbstractMessage(UUID id, MessageEncoding encoding) {
         this.id = id;
+        this.encoding = encoding;
     }
 
     @Override
@@ -44,4 +51,38 @@ public abstract class AbstractMessage implements Message, OutgoingMessage {
         return this.id;
     }
 
+    /**
+     * Gets the type identifier used when encoding this message as json.
+     *
+     * @return the json type
+     */
+    public abstract String getType();
+
+    /**
+     * Gets the type identifier used when encoding this message in the binary format.
+     *
+     * @return the binary type
+     */
+    public abstract byte getBinaryType();
+
+    /**
+     * Serializes the content of this message to json.
+     *
+     * @return the content, or null if this message has no content
+     */
+    public abstract @Nullable JsonElement serializeContent();
+
+    /**
+     * Writes the content of this message in the binary format.
+     *
+     * @param out the output
+     * @throws IOException if an error occurs whilst writing
+     */
+    public abstract void writeContent(DataOutput out) throws IOException;
+
+    @Override
+    public final @NonNull String asEncodedString() {
+        return this.encoding.encode(this);
+    }
+
 }
@@ -28,7 +28,7 @@ package me.lucko.luckperms.common.messaging.message;
 import com.google.gson.JsonElement;
 
 import me.lucko.luckperms.common.actionlog.ActionJsonSerializer;
-import me.lucko.luckperms.common.messaging.LuckPermsMessagingService;
+import me.lucko.luckperms.common.actionlog.LoggedAction;
 
 import net.luckperms.api.actionlog.Action;
 import net.luckperms.api.messenger.message.type.ActionLogMessage;
@@ -36,23 +36,46 @@ import net.luckperms.api.messenger.message.type.ActionLogMessage;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 public class ActionLogMessageImpl extends AbstractMessage implements ActionLogMessage {
     public static final String TYPE = "log";
+    public static final byte BINARY_TYPE = 3;
 
     public static ActionLogMessageImpl decode(@Nullable JsonElement content, UUID id) {
         if (content == null) {
             throw new IllegalStateException("Missing content");
         }
 
-        return new ActionLogMessageImpl(id, ActionJsonSerializer.deserialize(content));
+        return new ActionLogMessageImpl(id, MessageEncoding.JSON, ActionJsonSerializer.deserialize(content));
+    }
+
+    public static ActionLogMessageImpl decode(DataInput content, UUID id) throws IOException {
+        LoggedAction.Builder builder = LoggedAction.build()
+                .timestamp(Instant.ofEpochSecond(content.readLong()))
+                .source(BinaryMessageCodec.readUuid(content))
+                .sourceName(BinaryMessageCodec.readString(content))
+                .targetType(LoggedAction.parseTypeCharacter((char) content.readByte()));
+
+        if (content.readBoolean()) {
+            builder.target(BinaryMessageCodec.readUuid(content));
+        }
+
+        builder.targetName(BinaryMessageCodec.readString(content));
+        builder.description(BinaryMessageCodec.readString(content));
+
+        return new ActionLogMessageImpl(id, MessageEncoding.BINARY, builder.build());
     }
 
     private final Action logEntry;
 
-    public ActionLogMessageImpl(UUID id, Action logEntry) {
-        super(id);
+    public ActionLogMessageImpl(UUID id, MessageEncoding encoding, Action logEntry) {
+        super(id, encoding);
         this.logEntry = logEntry;
     }
 
@@ -62,10 +85,35 @@ public class ActionLogMessageImpl extends AbstractMessage implements ActionLogMe
     }
 
     @Override
-    public @NonNull String asEncodedString() {
-        return LuckPermsMessagingService.encodeMessageAsString(
-                TYPE, getId(), ActionJsonSerializer.serialize(this.logEntry)
-        );
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public byte getBinaryType() {
+        return BINARY_TYPE;
+    }
+
+    @Override
+    public @Nullable JsonElement serializeContent() {
+        return ActionJsonSerializer.serialize(this.logEntry);
+    }
+
+    @Override
+    public void writeContent(DataOutput out) throws IOException {
+        out.writeLong(this.logEntry.getTimestamp().getEpochSecond());
+        BinaryMessageCodec.writeUuid(out, this.logEntry.getSource().getUniqueId());
+        BinaryMessageCodec.writeString(out, this.logEntry.getSource().getName());
+        out.writeByte(LoggedAction.getTypeCharacter(this.logEntry.getTarget().getType()));
+
+        Optional<UUID> targetUuid = this.logEntry.getTarget().getUniqueId();
+        out.writeBoolean(targetUuid.isPresent());
+        if (targetUuid.isPresent()) {
+            BinaryMessageCodec.writeUuid(out, targetUuid.get());
+        }
+
+        BinaryMessageCodec.writeString(out, this.logEntry.getTarget().getName());
+        BinaryMessageCodec.writeString(out, this.logEntry.getDescription());
     }
 
 }
@@ -0,0 +1,236 @@
+/*
+ * This file is part of LuckPerms, licensed under the MIT License.
+ *
+ *  Copyright (c) lucko (Luck) <luck@lucko.me>
+ *  Copyright (c) contributors
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+
+package me.lucko.luckperms.common.messaging.message;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A compact binary encoding for messages.
+ *
+ * <p>Encoded messages are formed of a version byte, a type byte, a flags
+ * byte, the message id (as two longs) and then the message content. The
+ * content is deflated if it is large enough for this to be worthwhile.</p>
+ *
+ * <p>The resultant bytes are base64 encoded and prefixed with {@link #PREFIX},
+ * so they can be transmitted by any messenger which deals in strings, and
+ * distinguished from json messages (which always begin with '{').</p>
+ */
+public final class BinaryMessageCodec {
+    private BinaryMessageCodec() {}
+
+    /** The prefix used to identify binary encoded messages */
+    public static final String PREFIX = "#";
+
+    /** The current version of the binary format */
+    public static final byte VERSION = 1;
+
+    /** Flag set when the message content has been deflated */
+    private static final int FLAG_COMPRESSED = 1;
+
+    /** The size (in bytes) above which content is compressed */
+    private static final int COMPRESSION_THRESHOLD = 128;
+
+    public static boolean isBinary(String encodedString) {
+        return encodedString.startsWith(PREFIX);
+    }
+
+    public static String encode(AbstractMessage message) {
+        try {
+            ByteArrayOutputStream contentBytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(contentBytes)) {
+                message.writeContent(out);
+            }
+
+            byte[] content = contentBytes.toByteArray();
+            int flags = 0;
+
+            if (content.length > COMPRESSION_THRESHOLD) {
+                byte[] compressed = deflate(content);
+                if (compressed.length < content.length) {
+                    content = compressed;
+                    flags |= FLAG_COMPRESSED;
+                }
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(19 + content.length);
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeByte(VERSION);
+                out.writeByte(message.getBinaryType());
+                out.writeByte(flags);
+                writeUuid(out, message.getId());
+                out.write(content);
+            }
+
+            return PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Decodes the header of a binary encoded message.
+     *
+     * <p>Returns null if the message was encoded using a newer version of
+     * the format than is understood by this instance.</p>
+     *
+     * @param encodedString the encoded message
+     * @return the decoded frame
+     */
+    public static @Nullable Frame decode(String encodedString) {
+        if (!isBinary(encodedString)) {
+            throw new IllegalArgumentException("Not a binary message: " + encodedString);
+        }
+
+        byte[] bytes = Base64.getDecoder().decode(encodedString.substring(PREFIX.length()));
+        if (bytes.length < 19) {
+            throw new IllegalStateException("Incoming message is too short: " + encodedString);
+        }
+
+        int version = bytes[0];
+        if (version > VERSION) {
+            return null;
+        }
+
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, 18));
+            byte type = in.readByte();
+            int flags = in.readByte();
+            UUID id = readUuid(in);
+            return new Frame(type, flags, id, bytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] deflate(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(bytes);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    public static void writeUuid(DataOutput out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    public static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    public static void writeString(DataOutput out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (shift > 28) {
+                throw new IOException("VarInt too long");
+            }
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * The decoded header of a binary message.
+     */
+    public static final class Frame {
+        private final byte type;
+        private final int flags;
+        private final UUID id;
+        private final byte[] bytes;
+
+        private Frame(byte type, int flags, UUID id, byte[] bytes) {
+            this.type = type;
+            this.flags = flags;
+            this.id = id;
+            this.bytes = bytes;
+        }
+
+        public byte getType() {
+            return this.type;
+        }
+
+        public UUID getId() {
+            return this.id;
+        }
+
+        /**
+         * Gets an input for reading the content of the message.
+         *
+         * @return the content input
+         */
+        public DataInput content() {
+            InputStream in = new ByteArrayInputStream(this.bytes, 19, this.bytes.length - 19);
+            if ((this.flags & FLAG_COMPRESSED) != 0) {
+                in = new InflaterInputStream(in);
+            }
+            return new DataInputStream(in);
+        }
+    }
+
+}
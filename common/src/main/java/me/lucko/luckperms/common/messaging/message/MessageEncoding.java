@@ -0,0 +1,73 @@
+/*
+ * This file is part of LuckPerms, licensed under the MIT License.
+ *
+ *  Copyright (c) lucko (Luck) <luck@lucko.me>
+ *  Copyright (c) contributors
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+
+package me.lucko.luckperms.common.messaging.message;
+
+import me.lucko.luckperms.common.messaging.LuckPermsMessagingService;
+
+/**
+ * The encodings which can be used to transmit messages as strings.
+ *
+ * <p>Incoming messages are always accepted in either encoding - this only
+ * determines the format used for outgoing messages.</p>
+ */
+public enum MessageEncoding {
+
+    /**
+     * The original json format, understood by all versions.
+     */
+    JSON {
+        @Override
+        public String encode(AbstractMessage message) {
+            return LuckPermsMessagingService.encodeMessageAsString(message.getType(), message.getId(), message.serializeContent());
+        }
+    },
+
+    /**
+     * The compact binary format, see {@link BinaryMessageCodec}.
+     */
+    BINARY {
+        @Override
+        public String encode(AbstractMessage message) {
+            return BinaryMessageCodec.encode(message);
+        }
+    };
+
+    /**
+     * Encodes the given message to a string.
+     *
+     * @param message the message
+     * @return the encoded string
+     */
+    public abstract String encode(AbstractMessage message);
+
+    public static MessageEncoding parse(String name) {
+        if (name.equalsIgnoreCase("binary")) {
+            return BINARY;
+        }
+        return JSON;
+    }
+
+}
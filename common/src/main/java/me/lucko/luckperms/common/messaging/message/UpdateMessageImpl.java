@@ -27,28 +27,47 @@ package me.lucko.luckperms.common.messaging.message;
 
 import com.google.gson.JsonElement;
 
-import me.lucko.luckperms.common.messaging.LuckPermsMessagingService;
-
 import net.luckperms.api.messenger.message.type.UpdateMessage;
 
-import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.util.UUID;
 
 public class UpdateMessageImpl extends AbstractMessage implements UpdateMessage {
     public static final String TYPE = "update";
+    public static final byte BINARY_TYPE = 1;
 
     public static UpdateMessageImpl decode(@Nullable JsonElement content, UUID id) {
-        return new UpdateMessageImpl(id);
+        return new UpdateMessageImpl(id, MessageEncoding.JSON);
+    }
+
+    public static UpdateMessageImpl decode(DataInput content, UUID id) {
+        return new UpdateMessageImpl(id, MessageEncoding.BINARY);
+    }
+
+    public UpdateMessageImpl(UUID id, MessageEncoding encoding) {
+        super(id, encoding);
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public byte getBinaryType() {
+        return BINARY_TYPE;
     }
 
-    public UpdateMessageImpl(UUID id) {
-        super(id);
+    @Override
+    public @Nullable JsonElement serializeContent() {
+        return null;
     }
 
     @Override
-    public @NonNull String asEncodedString() {
-        return LuckPermsMessagingService.encodeMessageAsString(TYPE, getId(), null);
+    public void writeContent(DataOutput out) {
+        // no content
     }
 }
@@ -27,7 +27,6 @@ package me.lucko.luckperms.common.messaging.message;
 
 import com.google.gson.JsonElement;
 
-import me.lucko.luckperms.common.messaging.LuckPermsMessagingService;
 import me.lucko.luckperms.common.util.gson.JObject;
 
 import net.luckperms.api.messenger.message.type.UserUpdateMessage;
@@ -35,10 +34,14 @@ import net.luckperms.api.messenger.message.type.UserUpdateMessage;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.UUID;
 
 public class UserUpdateMessageImpl extends AbstractMessage implements UserUpdateMessage {
     public static final String TYPE = "userupdate";
+    public static final byte BINARY_TYPE = 2;
 
     public static UserUpdateMessageImpl decode(@Nullable JsonElement content, UUID id) {
         if (content == null) {
@@ -52,13 +55,17 @@ public class UserUpdateMessageImpl extends AbstractMessage implements UserUpdate
         }
         UUID userUuid = UUID.fromString(uuidElement.getAsString());
 
-        return new UserUpdateMessageImpl(id, userUuid);
+        return new UserUpdateMessageImpl(id, MessageEncoding.JSON, userUuid);
+    }
+
+    public static UserUpdateMessageImpl decode(DataInput content, UUID id) throws IOException {
+        return new UserUpdateMessageImpl(id, MessageEncoding.BINARY, BinaryMessageCodec.readUuid(content));
     }
 
     private final UUID userUuid;
 
-    public UserUpdateMessageImpl(UUID id, UUID userUuid) {
-        super(id);
+    public UserUpdateMessageImpl(UUID id, MessageEncoding encoding, UUID userUuid) {
+        super(id, encoding);
         this.userUuid = userUuid;
     }
 
@@ -68,9 +75,22 @@ public class UserUpdateMessageImpl extends AbstractMessage implements UserUpdate
     }
 
     @Override
-    public @NonNull String asEncodedString() {
-        return LuckPermsMessagingService.encodeMessageAsString(
-                TYPE, getId(), new JObject().add("userUuid", this.userUuid.toString()).toJson()
-        );
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public byte getBinaryType() {
+        return BINARY_TYPE;
+    }
+
+    @Override
+    public @Nullable JsonElement serializeContent() {
+        return new JObject().add("userUuid", this.userUuid.toString()).toJson();
+    }
+
+    @Override
+    public void writeContent(DataOutput out) throws IOException {
+        BinaryMessageCodec.writeUuid(out, this.userUuid);
     }
 }
@@ -25,22 +25,43 @@
 
 package me.lucko.luckperms.common.messaging.redis;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 
 import net.luckperms.api.messenger.IncomingMessageConsumer;
 import net.luckperms.api.messenger.Messenger;
 import net.luckperms.api.messenger.message.OutgoingMessage;
+import net.luckperms.api.messenger.message.type.GroupUpdateMessage;
+import net.luckperms.api.messenger.message.type.TrackUpdateMessage;
+import net.luckperms.api.messenger.message.type.UpdateMessage;
+import net.luckperms.api.messenger.message.type.UserUpdateMessage;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.Protocol;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 /**
  * An implementation of {@link Messenger} using Redis.
+ *
+ * <p>Outgoing messages are queued and published by a single thread, which
+ * pipelines all messages pending at the time of each flush.</p>
  */
 public class RedisMessenger implements Messenger {
     private static final String CHANNEL = "luckperms:update";
@@ -48,8 +69,13 @@ public class RedisMessenger implements Messenger {
     private final LuckPermsPlugin plugin;
     private final IncomingMessageConsumer consumer;
 
+    private final BlockingQueue<OutgoingMessage> outgoingMessages = new LinkedBlockingQueue<>();
+    private volatile long lastPublishLatency = 0;
+    private volatile long publishedMessages = 0;
+
     private JedisPool jedisPool;
     private Subscription sub;
+    private Thread publisherThread;
 
     public RedisMessenger(LuckPermsPlugin plugin, IncomingMessageConsumer consumer) {
         this.plugin = plugin;
@@ -65,23 +91,123 @@ public class RedisMessenger implements Messenger {
 
         this.sub = new Subscription(this);
         this.plugin.getBootstrap().getScheduler().executeAsync(sub);
+
+        this.publisherThread = new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("luckperms-redis-publisher")
+                .build()
+                .newThread(new Publisher());
+        this.publisherThread.start();
     }
 
     @Override
     public void sendOutgoingMessage(@NonNull OutgoingMessage outgoingMessage) {
+        this.outgoingMessages.add(outgoingMessage);
+    }
+
+    /**
+     * Gets diagnostic information about the messenger.
+     *
+     * @return the meta
+     */
+    public Map<String, String> getMeta() {
+        Map<String, String> meta = new LinkedHashMap<>();
+        meta.put("Publish Queue Depth", String.valueOf(this.outgoingMessages.size()));
+        meta.put("Published Messages", String.valueOf(this.publishedMessages));
+        meta.put("Last Publish Latency", TimeUnit.NANOSECONDS.toMillis(this.lastPublishLatency) + "ms");
+        return meta;
+    }
+
+    private void publish(List<OutgoingMessage> messages) {
+        List<String> encoded = new ArrayList<>(messages.size());
+
+        // coalesce update pings which would have the same effect on the receiving end
+        Set<String> seen = new HashSet<>();
+        for (OutgoingMessage message : messages) {
+            String key = getCoalesceKey(message);
+            if (key == null || seen.add(key)) {
+                try {
+                    encoded.add(message.asEncodedString());
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        long start = System.nanoTime();
         try (Jedis jedis = this.jedisPool.getResource()) {
-            jedis.publish(CHANNEL, outgoingMessage.asEncodedString());
+            Pipeline pipeline = jedis.pipelined();
+            for (String message : encoded) {
+                pipeline.publish(CHANNEL, message);
+            }
+            pipeline.sync();
         } catch (Exception e) {
             e.printStackTrace();
         }
+
+        this.lastPublishLatency = System.nanoTime() - start;
+        this.publishedMessages += encoded.size();
+    }
+
+    private static @Nullable String getCoalesceKey(OutgoingMessage message) {
+        if (message instanceof UpdateMessage) {
+            return "update";
+        } else if (message instanceof UserUpdateMessage) {
+            return "user:" + ((UserUpdateMessage) message).getUserUniqueId();
+        } else if (message instanceof GroupUpdateMessage) {
+            return "group:" + ((GroupUpdateMessage) message).getGroupName();
+        } else if (message instanceof TrackUpdateMessage) {
+            return "track:" + ((TrackUpdateMessage) message).getTrackName();
+        } else {
+            // never coalesce other messages (e.g. log entries)
+            return null;
+        }
     }
 
     @Override
     public void close() {
+        this.publisherThread.interrupt();
+        try {
+            this.publisherThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
         this.sub.unsubscribe();
         this.jedisPool.destroy();
     }
 
+    private final class Publisher implements Runnable {
+        @Override
+        public void run() {
+            List<OutgoingMessage> messages = new ArrayList<>();
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    messages.add(RedisMessenger.this.outgoingMessages.take());
+                } catch (InterruptedException e) {
+                    break;
+                }
+
+                // flush everything else which is pending
+                RedisMessenger.this.outgoingMessages.drainTo(messages);
+                try {
+                    publish(messages);
+                } catch (Exception e) {
+                    // keep the publisher alive, otherwise the queue would grow forever
+                    e.printStackTrace();
+                } finally {
+                    messages.clear();
+                }
+            }
+
+            // flush any messages remaining on shutdown
+            RedisMessenger.this.outgoingMessages.drainTo(messages);
+            if (!messages.isEmpty()) {
+                publish(messages);
+            }
+        }
+    }
+
     private static class Subscription extends JedisPubSub implements Runnable {
         private final RedisMessenger parent;
 
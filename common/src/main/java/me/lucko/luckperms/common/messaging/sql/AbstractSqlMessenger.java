@@ -32,10 +32,13 @@ import net.luckperms.api.messenger.message.OutgoingMessage;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * An implementation of {@link Messenger} using SQL.
@@ -55,7 +58,7 @@ public abstract class AbstractSqlMessenger implements Messenger {
     public void init() throws SQLException {
         try (Connection c = getConnection()) {
             // init table
-            String createStatement = "CREATE TABLE IF NOT EXISTS `" + getTableName() + "` (`id` INT AUTO_INCREMENT NOT NULL, `time` TIMESTAMP NOT NULL, `msg` TEXT NOT NULL, PRIMARY KEY (`id`)) DEFAULT CHARSET = utf8mb4";
+            String createStatement = "CREATE TABLE IF NOT EXISTS `" + getTableName() + "` (`id` INT AUTO_INCREMENT NOT NULL, `time` TIMESTAMP NOT NULL, `msg` TEXT NOT NULL, PRIMARY KEY (`id`), KEY `time` (`time`)) DEFAULT CHARSET = utf8mb4";
             try (Statement s = c.createStatement()) {
                 try {
                     s.execute(createStatement);
@@ -67,6 +70,11 @@ public abstract class AbstractSqlMessenger implements Messenger {
                         throw e;
                     }
                 }
+
+                // tables created by older versions don't have an index on the time column
+                if (!hasTimeIndex(c)) {
+                    s.execute("CREATE INDEX `time` ON `" + getTableName() + "` (`time`)");
+                }
             }
 
             // pull last id
@@ -80,11 +88,42 @@ public abstract class AbstractSqlMessenger implements Messenger {
         }
     }
 
+    private boolean hasTimeIndex(Connection c) throws SQLException {
+        DatabaseMetaData metaData = c.getMetaData();
+        try (ResultSet rs = metaData.getIndexInfo(c.getCatalog(), null, getTableName(), false, false)) {
+            while (rs.next()) {
+                if ("time".equalsIgnoreCase(rs.getString("COLUMN_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     public void sendOutgoingMessage(@NonNull OutgoingMessage outgoingMessage) {
+        insertMessages(Collections.singletonList(outgoingMessage.asEncodedString()));
+    }
+
+    /**
+     * Inserts the given encoded messages into the table, using a single statement.
+     *
+     * @param messages the encoded messages
+     */
+    protected void insertMessages(List<String> messages) {
+        StringBuilder sql = new StringBuilder("INSERT INTO `" + getTableName() + "` (`time`, `msg`) VALUES ");
+        for (int i = 0; i < messages.size(); i++) {
+            if (i != 0) {
+                sql.append(", ");
+            }
+            sql.append("(NOW(), ?)");
+        }
+
         try (Connection c = getConnection()) {
-            try (PreparedStatement ps = c.prepareStatement("INSERT INTO `" + getTableName() + "` (`time`, `msg`) VALUES(NOW(), ?)")) {
-                ps.setString(1, outgoingMessage.asEncodedString());
+            try (PreparedStatement ps = c.prepareStatement(sql.toString())) {
+                for (int i = 0; i < messages.size(); i++) {
+                    ps.setString(i + 1, messages.get(i));
+                }
                 ps.execute();
             }
         } catch (SQLException e) {
@@ -92,28 +131,42 @@ public abstract class AbstractSqlMessenger implements Messenger {
         }
     }
 
-    public void pollMessages() {
+    /**
+     * Polls the table for new messages.
+     *
+     * @return true if any messages were received
+     */
+    public boolean pollMessages() {
+        boolean received = false;
         try (Connection c = getConnection()) {
-            try (PreparedStatement ps = c.prepareStatement("SELECT `id`, `msg` FROM `" + getTableName() + "` WHERE `id` > ? AND (NOW() - `time` < 30)")) {
+            try (PreparedStatement ps = c.prepareStatement("SELECT `id`, `msg` FROM `" + getTableName() + "` WHERE `id` > ? AND `time` > DATE_SUB(NOW(), INTERVAL 30 SECOND)")) {
                 ps.setLong(1, this.lastId);
                 try (ResultSet rs = ps.executeQuery()) {
                     while (rs.next()) {
+                        received = true;
+
                         long id = rs.getLong("id");
                         this.lastId = Math.max(this.lastId, id);
 
                         String message = rs.getString("msg");
-                        this.consumer.consumeIncomingMessageAsString(message);
+                        try {
+                            this.consumer.consumeIncomingMessageAsString(message);
+                        } catch (RuntimeException e) {
+                            // a malformed message shouldn't stop the rest from being received
+                            e.printStackTrace();
+                        }
                     }
                 }
             }
         } catch (SQLException e) {
             e.printStackTrace();
         }
+        return received;
     }
 
     public void runHousekeeping() {
         try (Connection c = getConnection()) {
-            try (PreparedStatement ps = c.prepareStatement("DELETE FROM `" + getTableName() + "` WHERE (NOW() - `time` > 60)")) {
+            try (PreparedStatement ps = c.prepareStatement("DELETE FROM `" + getTableName() + "` WHERE `time` < DATE_SUB(NOW(), INTERVAL 60 SECOND)")) {
                 ps.execute();
             }
         } catch (SQLException e) {
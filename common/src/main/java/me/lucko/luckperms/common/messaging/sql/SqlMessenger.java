@@ -31,15 +31,39 @@ import me.lucko.luckperms.common.plugin.scheduler.SchedulerTask;
 import me.lucko.luckperms.common.storage.implementation.sql.SqlStorage;
 
 import net.luckperms.api.messenger.IncomingMessageConsumer;
+import net.luckperms.api.messenger.message.OutgoingMessage;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class SqlMessenger extends AbstractSqlMessenger {
+
+    /** The poll interval used when messages are being sent or received */
+    private static final long MIN_POLL_INTERVAL_MILLIS = 1000;
+
+    /** The poll interval which is backed off to when idle */
+    private static final long MAX_POLL_INTERVAL_MILLIS = 5000;
+
+    /** How long outgoing messages are buffered for, so they can be inserted in one batch */
+    private static final long FLUSH_DELAY_MILLIS = 50;
+
     private final LuckPermsPlugin plugin;
     private final SqlStorage sqlStorage;
 
+    private final Queue<String> outgoingMessages = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    private volatile long pollInterval = MIN_POLL_INTERVAL_MILLIS;
+    private volatile boolean closed = false;
+
     private SchedulerTask pollTask;
     private SchedulerTask housekeepingTask;
 
@@ -59,12 +83,62 @@ public class SqlMessenger extends AbstractSqlMessenger {
 
         // schedule poll tasks
         SchedulerAdapter scheduler = this.plugin.getBootstrap().getScheduler();
-        this.pollTask = scheduler.asyncRepeating(this::pollMessages, 1, TimeUnit.SECONDS);
+        this.pollTask = scheduler.asyncLater(this::poll, this.pollInterval, TimeUnit.MILLISECONDS);
         this.housekeepingTask = scheduler.asyncRepeating(this::runHousekeeping, 30, TimeUnit.SECONDS);
     }
 
+    private void poll() {
+        if (this.closed) {
+            return;
+        }
+
+        try {
+            if (pollMessages()) {
+                this.pollInterval = MIN_POLL_INTERVAL_MILLIS;
+            } else {
+                // back off whilst idle
+                this.pollInterval = Math.min(this.pollInterval * 2, MAX_POLL_INTERVAL_MILLIS);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        } finally {
+            // always reschedule, otherwise a single failure would stop polling for good
+            if (!this.closed) {
+                this.pollTask = this.plugin.getBootstrap().getScheduler().asyncLater(this::poll, this.pollInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void sendOutgoingMessage(@NonNull OutgoingMessage outgoingMessage) {
+        this.outgoingMessages.add(outgoingMessage.asEncodedString());
+
+        // replies are likely, so stop backing off
+        this.pollInterval = MIN_POLL_INTERVAL_MILLIS;
+
+        if (this.flushScheduled.compareAndSet(false, true)) {
+            this.plugin.getBootstrap().getScheduler().asyncLater(this::flushOutgoingMessages, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushOutgoingMessages() {
+        this.flushScheduled.set(false);
+
+        List<String> messages = new ArrayList<>();
+        String message;
+        while ((message = this.outgoingMessages.poll()) != null) {
+            messages.add(message);
+        }
+
+        if (!messages.isEmpty()) {
+            insertMessages(messages);
+        }
+    }
+
     @Override
     public void close() {
+        this.closed = true;
+
         SchedulerTask task = this.pollTask;
         if (task != null) {
             task.cancel();
@@ -77,6 +151,9 @@ public class SqlMessenger extends AbstractSqlMessenger {
         this.pollTask = null;
         this.housekeepingTask = null;
 
+        // send any messages which are still buffered
+        flushOutgoingMessages();
+
         super.close();
     }
 
@@ -0,0 +1,132 @@
+/*
+ * This file is part of LuckPerms, licensed under the MIT License.
+ *
+ *  Copyright (c) lucko (Luck) <luck@lucko.me>
+ *  Copyright (c) contributors
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+
+package me.lucko.luckperms.common.model;
+
+import net.luckperms.api.model.PermissionHolder.Identifier;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * An index of the times at which temporary nodes held by loaded
+ * {@link PermissionHolder}s expire, ordered by expiry time.
+ *
+ * <p>Entries are added by {@link NodeMap} when a temporary node is added.
+ * They aren't removed when the node is removed, so an entry is only a hint
+ * that the holder <i>may</i> have a node which expires at that time.</p>
+ */
+public final class ExpiryIndex {
+    private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>();
+
+    /**
+     * Records that the given holder has a node which expires at the given time.
+     *
+     * @param expiry the expiry time
+     * @param holder the holder
+     */
+    public void add(Instant expiry, PermissionHolderIdentifier holder) {
+        // round up, so the node has definitely expired by the time the entry is polled
+        long expirySeconds = expiry.getNano() == 0 ? expiry.getEpochSecond() : expiry.getEpochSecond() + 1;
+        this.entries.add(new Entry(expirySeconds, holder));
+    }
+
+    /**
+     * Re-adds an entry previously removed by {@link #pollExpired(long)}.
+     *
+     * @param entry the entry
+     */
+    public void add(Entry entry) {
+        this.entries.add(entry);
+    }
+
+    /**
+     * Removes and returns the next entry which expires at or before the given time.
+     *
+     * @param now the current unix time, in seconds
+     * @return the entry, or null if there are no more expired entries
+     */
+    public Entry pollExpired(long now) {
+        Entry first;
+        while ((first = this.entries.ceiling(Entry.MIN)) != null) {
+            if (first.expiry > now) {
+                return null;
+            }
+            if (this.entries.remove(first)) {
+                return first;
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public static final class Entry implements Comparable<Entry> {
+        private static final Comparator<Entry> COMPARATOR = Comparator.<Entry>comparingLong(e -> e.expiry)
+                .thenComparing(e -> e.holder.getType())
+                .thenComparing(e -> e.holder.getName());
+
+        private static final Entry MIN = new Entry(Long.MIN_VALUE, new PermissionHolderIdentifier(HolderType.GROUP, ""));
+
+        private final long expiry;
+        private final Identifier holder;
+
+        Entry(long expiry, Identifier holder) {
+            this.expiry = expiry;
+            this.holder = holder;
+        }
+
+        public long getExpiry() {
+            return this.expiry;
+        }
+
+        public Identifier getHolder() {
+            return this.holder;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            return COMPARATOR.compare(this, o);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry that = (Entry) o;
+            return this.expiry == that.expiry && this.holder.equals(that.holder);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.expiry, this.holder);
+        }
+    }
+}
@@ -46,6 +46,7 @@ import net.luckperms.api.query.QueryOptions;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -323,6 +324,14 @@ public final class NodeMap {
         ImmutableContextSet context = node.getContexts();
         Node n = localise(node);
 
+        Instant expiry = node.getExpiry();
+        if (expiry != null) {
+            ExpiryIndex expiryIndex = this.holder.getPlugin().getExpiryIndex();
+            if (expiryIndex != null) {
+                expiryIndex.add(expiry, this.holder.getIdentifier());
+            }
+        }
+
         SortedSet<Node> nodesInContext = this.map.computeIfAbsent(context, VALUE_SET_SUPPLIER);
         nodesInContext.removeIf(e -> e.equals(node, NodeEqualityPredicate.IGNORE_EXPIRY_TIME_AND_VALUE));
         nodesInContext.add(n);
@@ -28,6 +28,7 @@ package me.lucko.luckperms.common.node.utils;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import me.lucko.luckperms.common.context.ContextSetJsonSerializer;
 import me.lucko.luckperms.common.node.factory.NodeBuilders;
@@ -35,6 +36,7 @@ import me.lucko.luckperms.common.node.factory.NodeBuilders;
 import net.luckperms.api.node.Node;
 import net.luckperms.api.node.NodeBuilder;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.HashSet;
@@ -69,6 +71,28 @@ public class NodeJsonSerializer {
         return arr;
     }
 
+    public static void writeNodes(JsonWriter writer, Collection<Node> nodes) throws IOException {
+        writer.beginArray();
+        for (Node node : nodes) {
+            writer.beginObject();
+            writer.name("type").value(node.getType().name().toLowerCase());
+            writer.name("key").value(node.getKey());
+            writer.name("value").value(node.getValue());
+
+            Instant expiry = node.getExpiry();
+            if (expiry != null) {
+                writer.name("expiry").value(expiry.getEpochSecond());
+            }
+
+            if (!node.getContexts().isEmpty()) {
+                writer.name("context");
+                ContextSetJsonSerializer.writeContextSet(writer, node.getContexts());
+            }
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
     public static Set<Node> deserializeNodes(JsonArray arr) {
         Set<Node> nodes = new HashSet<>();
         for (JsonElement ent : arr) {
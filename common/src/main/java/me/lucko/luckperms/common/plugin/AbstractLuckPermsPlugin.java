@@ -44,12 +44,14 @@ import me.lucko.luckperms.common.locale.LocaleManager;
 import me.lucko.luckperms.common.locale.message.Message;
 import me.lucko.luckperms.common.messaging.InternalMessagingService;
 import me.lucko.luckperms.common.messaging.MessagingFactory;
+import me.lucko.luckperms.common.model.ExpiryIndex;
 import me.lucko.luckperms.common.plugin.logging.PluginLogger;
 import me.lucko.luckperms.common.sender.Sender;
 import me.lucko.luckperms.common.storage.Storage;
 import me.lucko.luckperms.common.storage.StorageFactory;
 import me.lucko.luckperms.common.storage.StorageType;
 import me.lucko.luckperms.common.storage.implementation.file.watcher.FileWatcher;
+import me.lucko.luckperms.common.storage.misc.LocalSnapshot;
 import me.lucko.luckperms.common.tasks.SyncTask;
 import me.lucko.luckperms.common.treeview.PermissionRegistry;
 import me.lucko.luckperms.common.verbose.VerboseHandler;
@@ -63,10 +65,17 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Month;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 public abstract class AbstractLuckPermsPlugin implements LuckPermsPlugin {
 
@@ -76,6 +85,7 @@ public abstract class AbstractLuckPermsPlugin implements LuckPermsPlugin {
     // init during enable
     private VerboseHandler verboseHandler;
     private PermissionRegistry permissionRegistry;
+    private ExpiryIndex expiryIndex;
     private LogDispatcher logDispatcher;
     private LuckPermsConfiguration configuration;
     private LocaleManager localeManager;
@@ -109,15 +119,25 @@ public abstract class AbstractLuckPermsPlugin implements LuckPermsPlugin {
         // load some utilities early
         this.verboseHandler = new VerboseHandler(getBootstrap().getScheduler());
         this.permissionRegistry = new PermissionRegistry(getBootstrap().getScheduler());
+        this.expiryIndex = new ExpiryIndex();
         this.logDispatcher = new LogDispatcher(this);
 
         // load configuration
         getLogger().info("Loading configuration...");
         this.configuration = new LuckPermsConfiguration(this, provideConfigurationAdapter());
 
+        // size the i/o executor to match the storage connection pool
+        getBootstrap().getScheduler().setIoThreads(getConfiguration().get(ConfigKeys.DATABASE_VALUES).getMaxPoolSize());
+
+        // the remaining startup phases are timed, and the independent ones run in parallel
+        Map<String, Long> phaseTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+        Executor async = getBootstrap().getScheduler().async();
+
         // load locale
-        this.localeManager = new LocaleManager();
-        this.localeManager.tryLoad(this, getBootstrap().getConfigDirectory().resolve("lang.yml"));
+        CompletableFuture<Void> localeLoad = CompletableFuture.runAsync(timed("locale", phaseTimings, () -> {
+            this.localeManager = new LocaleManager();
+            this.localeManager.tryLoad(this, getBootstrap().getConfigDirectory().resolve("lang.yml"));
+        }), async);
 
         // setup a bytebin instance
         OkHttpClient httpClient = new OkHttpClient.Builder()
@@ -126,53 +146,72 @@ public abstract class AbstractLuckPermsPlugin implements LuckPermsPlugin {
 
         this.bytebin = new BytebinClient(httpClient, getConfiguration().get(ConfigKeys.BYTEBIN_URL), "luckperms");
 
-        // now the configuration is loaded, we can create a storage factory and load initial dependencies
+        // now the configuration is loaded, we can create a storage factory, load storage
+        // dependencies and initialise the storage - this runs in the background whilst
+        // the managers and platform hooks are setup
         StorageFactory storageFactory = new StorageFactory(this);
-        Set<StorageType> storageTypes = storageFactory.getRequiredTypes();
-        this.dependencyManager.loadStorageDependencies(storageTypes);
-
-        // register listeners
-        registerPlatformListeners();
-
-        // initialise the storage
-        // first, setup the file watcher, if enabled
-        if (getConfiguration().get(ConfigKeys.WATCH_FILES)) {
-            try {
-                this.fileWatcher = new FileWatcher(this, getBootstrap().getDataDirectory());
-            } catch (Throwable e) {
-                // catch throwable here, seems some JVMs throw UnsatisfiedLinkError when trying
-                // to create a watch service. see: https://github.com/lucko/LuckPerms/issues/2066
-                getLogger().warn("Error occurred whilst trying to create a file watcher:");
-                e.printStackTrace();
+        CompletableFuture<Void> storageInit = CompletableFuture.runAsync(timed("storage", phaseTimings, () -> {
+            Set<StorageType> storageTypes = storageFactory.getRequiredTypes();
+            this.dependencyManager.loadStorageDependencies(storageTypes);
+
+            // first, setup the file watcher, if enabled
+            if (getConfiguration().get(ConfigKeys.WATCH_FILES)) {
+                try {
+                    this.fileWatcher = new FileWatcher(this, getBootstrap().getDataDirectory());
+                } catch (Throwable e) {
+                    // catch throwable here, seems some JVMs throw UnsatisfiedLinkError when trying
+                    // to create a watch service. see: https://github.com/lucko/LuckPerms/issues/2066
+                    getLogger().warn("Error occurred whilst trying to create a file watcher:");
+                    e.printStackTrace();
+                }
             }
-        }
 
-        // initialise storage
-        this.storage = storageFactory.getInstance();
-        this.messagingService = provideMessagingFactory().getInstance();
+            // initialise storage
+            this.storage = storageFactory.getInstance();
+        }), async);
 
         // setup the update task buffer
         this.syncTaskBuffer = new SyncTask.Buffer(this);
 
+        // initialise messaging as soon as the storage is ready (the messaging service
+        // may use the storage connection) - also in the background
+        CompletableFuture<Void> messagingInit = storageInit.thenRunAsync(timed("messaging", phaseTimings, () -> {
+            this.messagingService = provideMessagingFactory().getInstance();
+        }), async);
+
+        // commands need the locale to be loaded
+        join(localeLoad);
+
         // register commands
-        registerCommands();
+        timed("commands", phaseTimings, this::registerCommands).run();
 
         // load internal managers
         getLogger().info("Loading internal permission managers...");
-        this.inheritanceGraphFactory = new InheritanceGraphFactory(this);
+        timed("managers", phaseTimings, () -> {
+            this.inheritanceGraphFactory = new InheritanceGraphFactory(this);
 
-        // setup user/group/track manager
-        setupManagers();
+            // setup user/group/track manager
+            setupManagers();
 
-        // init calculator factory
-        this.calculatorFactory = provideCalculatorFactory();
+            // init calculator factory
+            this.calculatorFactory = provideCalculatorFactory();
 
-        // setup contextmanager & register common calculators
-        setupContextManager();
-        getContextManager().registerCalculator(new ConfigurationContextCalculator(getConfiguration()));
+            // setup contextmanager & register common calculators
+            setupContextManager();
+            getContextManager().registerCalculator(new ConfigurationContextCalculator(getConfiguration()));
+        }).run();
 
         // setup platform hooks
-        setupPlatformHooks();
+        timed("platform hooks", phaseTimings, this::setupPlatformHooks).run();
+
+        // everything from here onwards needs the storage
+        join(storageInit);
+
+        // register listeners
+        registerPlatformListeners();
+
+        // wait for the messaging service before registering the API
+        join(messagingInit);
 
         // register with the LP API
         this.apiProvider = new LuckPermsApiProvider(this);
@@ -182,8 +221,10 @@ public abstract class AbstractLuckPermsPlugin implements LuckPermsPlugin {
         registerApiOnPlatform(this.apiProvider);
 
         // setup extension manager
-        this.extensionManager = new SimpleExtensionManager(this);
-        this.extensionManager.loadExtensions(getBootstrap().getConfigDirectory().resolve("extensions"));
+        timed("extensions", phaseTimings, () -> {
+            this.extensionManager = new SimpleExtensionManager(this);
+            this.extensionManager.loadExtensions(getBootstrap().getConfigDirectory().resolve("extensions"));
+        }).run();
 
         // schedule update tasks
         int mins = getConfiguration().get(ConfigKeys.SYNC_TIME);
@@ -191,12 +232,26 @@ public abstract class AbstractLuckPermsPlugin implements LuckPermsPlugin {
             getBootstrap().getScheduler().asyncRepeating(() -> this.syncTaskBuffer.request(), mins, TimeUnit.MINUTES);
         }
 
-        // run an update instantly.
-        getLogger().info("Performing initial data load...");
-        try {
-            new SyncTask(this).run();
-        } catch (Exception e) {
-            e.printStackTrace();
+        // if a local snapshot is available, load it and sync with the storage in the background
+        if (getConfiguration().get(ConfigKeys.WARM_START_SNAPSHOT) && new LocalSnapshot(this).load()) {
+            getLogger().info("Loaded group and track data from local snapshot, performing initial data load in the background...");
+            getBootstrap().getScheduler().executeAsync(() -> {
+                try {
+                    new SyncTask(this).run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            });
+        } else {
+            // run an update instantly.
+            getLogger().info("Performing initial data load...");
+            timed("initial data load", phaseTimings, () -> {
+                try {
+                    new SyncTask(this).run();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }).run();
         }
 
         // init housekeeping tasks
@@ -207,6 +262,35 @@ public abstract class AbstractLuckPermsPlugin implements LuckPermsPlugin {
 
         Duration timeTaken = Duration.between(getBootstrap().getStartupTime(), Instant.now());
         getLogger().info("Successfully enabled. (took " + timeTaken.toMillis() + "ms)");
+        synchronized (phaseTimings) {
+            getLogger().info("Startup phase timings: " + phaseTimings.entrySet().stream()
+                    .map(e -> e.getKey() + "=" + e.getValue() + "ms")
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private Runnable timed(String phase, Map<String, Long> timings, Runnable runnable) {
+        return () -> {
+            long start = System.currentTimeMillis();
+            runnable.run();
+            timings.put(phase, System.currentTimeMillis() - start);
+        };
+    }
+
+    private static void join(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            // rethrow the original exception
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
     }
 
     public final void disable() {
@@ -257,8 +341,7 @@ public abstract class AbstractLuckPermsPlugin implements LuckPermsPlugin {
                 Dependency.CAFFEINE,
                 Dependency.OKIO,
                 Dependency.OKHTTP,
-                Dependency.BYTEBUDDY,
-                Dependency.EVENT
+                Dependency.BYTEBUDDY
         );
     }
 
@@ -305,6 +388,11 @@ public abstract class AbstractLuckPermsPlugin implements LuckPermsPlugin {
         return this.permissionRegistry;
     }
 
+    @Override
+    public ExpiryIndex getExpiryIndex() {
+        return this.expiryIndex;
+    }
+
     @Override
     public LogDispatcher getLogDispatcher() {
         return this.logDispatcher;
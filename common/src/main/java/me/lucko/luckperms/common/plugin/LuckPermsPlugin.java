@@ -38,6 +38,7 @@ import me.lucko.luckperms.common.extension.SimpleExtensionManager;
 import me.lucko.luckperms.common.inheritance.InheritanceGraphFactory;
 import me.lucko.luckperms.common.locale.LocaleManager;
 import me.lucko.luckperms.common.messaging.InternalMessagingService;
+import me.lucko.luckperms.common.model.ExpiryIndex;
 import me.lucko.luckperms.common.model.Group;
 import me.lucko.luckperms.common.model.Track;
 import me.lucko.luckperms.common.model.User;
@@ -218,6 +219,13 @@ public interface LuckPermsPlugin {
      */
     PermissionRegistry getPermissionRegistry();
 
+    /**
+     * Gets the index of temporary node expiry times.
+     *
+     * @return the expiry index
+     */
+    ExpiryIndex getExpiryIndex();
+
     /**
      * Gets the log dispatcher running on the platform
      *
@@ -25,10 +25,12 @@
 
 package me.lucko.luckperms.common.plugin.scheduler;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -44,7 +46,8 @@ import java.util.concurrent.TimeUnit;
 public abstract class AbstractJavaScheduler implements SchedulerAdapter {
     private final ScheduledThreadPoolExecutor scheduler;
     private final ErrorReportingExecutor schedulerWorkerPool;
-    private final ForkJoinPool worker;
+    private final InstrumentedExecutor worker;
+    private final IoThreadPool io;
 
     public AbstractJavaScheduler() {
         this.scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
@@ -58,7 +61,8 @@ public abstract class AbstractJavaScheduler implements SchedulerAdapter {
                 .setNameFormat("luckperms-scheduler-worker-%d")
                 .build()
         ));
-        this.worker = new ForkJoinPool(32, ForkJoinPool.defaultForkJoinWorkerThreadFactory, (t, e) -> e.printStackTrace(), false);
+        this.worker = new InstrumentedExecutor("worker", new ForkJoinPool(32, ForkJoinPool.defaultForkJoinWorkerThreadFactory, (t, e) -> e.printStackTrace(), false));
+        this.io = new IoThreadPool();
     }
 
     @Override
@@ -66,6 +70,21 @@ public abstract class AbstractJavaScheduler implements SchedulerAdapter {
         return this.worker;
     }
 
+    @Override
+    public Executor io() {
+        return this.io.getExecutor();
+    }
+
+    @Override
+    public void setIoThreads(int threads) {
+        this.io.setThreads(threads);
+    }
+
+    @Override
+    public Collection<InstrumentedExecutor> getInstrumentedExecutors() {
+        return ImmutableList.of(this.worker, this.io.getExecutor());
+    }
+
     @Override
     public SchedulerTask asyncLater(Runnable task, long delay, TimeUnit unit) {
         ScheduledFuture<?> future = this.scheduler.schedule(() -> this.schedulerWorkerPool.execute(task), delay, unit);
@@ -91,6 +110,7 @@ public abstract class AbstractJavaScheduler implements SchedulerAdapter {
     @Override
     public void shutdownExecutor() {
         this.schedulerWorkerPool.delegate.shutdown();
+        this.io.shutdown();
         try {
             this.schedulerWorkerPool.delegate.awaitTermination(1, TimeUnit.MINUTES);
         } catch (InterruptedException e) {
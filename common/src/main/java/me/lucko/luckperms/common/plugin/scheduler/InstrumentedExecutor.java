@@ -0,0 +1,104 @@
+/*
+ * This file is part of LuckPerms, licensed under the MIT License.
+ *
+ *  Copyright (c) lucko (Luck) <luck@lucko.me>
+ *  Copyright (c) contributors
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+
+package me.lucko.luckperms.common.plugin.scheduler;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link Executor} which records how many tasks are waiting to be
+ * executed, and how long they waited for.
+ */
+public final class InstrumentedExecutor implements Executor {
+    private final String name;
+    private final Executor delegate;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+
+    public InstrumentedExecutor(String name, Executor delegate) {
+        this.name = name;
+        this.delegate = delegate;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the number of tasks which have been submitted but not yet started.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return this.queued.get();
+    }
+
+    /**
+     * Gets the number of tasks which have been started.
+     *
+     * @return the number of executed tasks
+     */
+    public long getExecutedCount() {
+        return this.executed.sum();
+    }
+
+    /**
+     * Gets the average time tasks have waited between being submitted and being started.
+     *
+     * @return the average wait time in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        long executed = this.executed.sum();
+        if (executed == 0) {
+            return 0;
+        }
+        return (double) TimeUnit.NANOSECONDS.toMicros(this.totalWaitNanos.sum() / executed) / 1000d;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        long submitTime = System.nanoTime();
+        this.queued.incrementAndGet();
+        try {
+            this.delegate.execute(() -> {
+                this.queued.decrementAndGet();
+                this.totalWaitNanos.add(System.nanoTime() - submitTime);
+                this.executed.increment();
+                command.run();
+            });
+        } catch (RejectedExecutionException e) {
+            this.queued.decrementAndGet();
+            throw e;
+        }
+    }
+}
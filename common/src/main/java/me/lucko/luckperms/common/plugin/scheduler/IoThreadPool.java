@@ -0,0 +1,98 @@
+/*
+ * This file is part of LuckPerms, licensed under the MIT License.
+ *
+ *  Copyright (c) lucko (Luck) <luck@lucko.me>
+ *  Copyright (c) contributors
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+
+package me.lucko.luckperms.common.plugin.scheduler;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A fixed size pool of threads for blocking i/o, e.g. storage calls.
+ *
+ * <p>The pool is resized by {@link #setThreads(int)} once the size of the
+ * storage connection pool is known.</p>
+ */
+public final class IoThreadPool {
+    private static final int DEFAULT_THREADS = 10;
+
+    private final ThreadPoolExecutor pool;
+    private final InstrumentedExecutor executor;
+
+    public IoThreadPool() {
+        this.pool = new ThreadPoolExecutor(DEFAULT_THREADS, DEFAULT_THREADS, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("luckperms-io-%d")
+                .build()
+        );
+        this.pool.allowCoreThreadTimeOut(true);
+        this.executor = new InstrumentedExecutor("io", command -> this.pool.execute(() -> {
+            try {
+                command.run();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }));
+    }
+
+    /**
+     * Gets the executor which runs tasks in the pool.
+     *
+     * @return the executor
+     */
+    public InstrumentedExecutor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * Sets the number of threads in the pool.
+     *
+     * @param threads the number of threads
+     */
+    public void setThreads(int threads) {
+        threads = Math.max(1, threads);
+        if (threads > this.pool.getMaximumPoolSize()) {
+            this.pool.setMaximumPoolSize(threads);
+            this.pool.setCorePoolSize(threads);
+        } else {
+            this.pool.setCorePoolSize(threads);
+            this.pool.setMaximumPoolSize(threads);
+        }
+    }
+
+    /**
+     * Shuts down the pool, waiting for queued tasks to complete.
+     */
+    public void shutdown() {
+        this.pool.shutdown();
+        try {
+            this.pool.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+}
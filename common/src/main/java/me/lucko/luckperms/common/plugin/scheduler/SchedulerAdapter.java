@@ -25,6 +25,8 @@
 
 package me.lucko.luckperms.common.plugin.scheduler;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
@@ -40,6 +42,36 @@ public interface SchedulerAdapter {
      */
     Executor async();
 
+    /**
+     * Gets an executor instance for blocking I/O operations, e.g. storage calls.
+     *
+     * <p>Kept separate from {@link #async()} where possible, so blocking calls
+     * can't starve other async work.</p>
+     *
+     * @return an i/o executor instance
+     */
+    default Executor io() {
+        return async();
+    }
+
+    /**
+     * Sets the number of threads used by the {@link #io()} executor.
+     *
+     * @param threads the number of threads
+     */
+    default void setIoThreads(int threads) {
+
+    }
+
+    /**
+     * Gets the executors used by the scheduler which record metrics.
+     *
+     * @return the instrumented executors
+     */
+    default Collection<InstrumentedExecutor> getInstrumentedExecutors() {
+        return Collections.emptyList();
+    }
+
     /**
      * Gets a sync executor instance
      *
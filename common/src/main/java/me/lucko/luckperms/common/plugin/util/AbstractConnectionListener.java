@@ -31,9 +31,11 @@ import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 import net.luckperms.api.model.PlayerSaveResult;
 import net.luckperms.api.model.data.DataType;
 import net.luckperms.api.platform.Platform;
+import net.luckperms.api.query.QueryOptions;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -66,8 +68,11 @@ public abstract class AbstractConnectionListener {
         // register with the housekeeper to avoid accidental unloads
         this.plugin.getUserManager().getHouseKeeper().registerUsage(uniqueId);
 
-        // save uuid data.
-        PlayerSaveResult saveResult = this.plugin.getStorage().savePlayerData(uniqueId, username).join();
+        // save uuid data and load the user's data at the same time - the two are independent
+        CompletableFuture<PlayerSaveResult> saveResultFuture = this.plugin.getStorage().savePlayerData(uniqueId, username);
+        CompletableFuture<User> userFuture = this.plugin.getStorage().loadUser(uniqueId, username);
+
+        PlayerSaveResult saveResult = saveResultFuture.join();
 
         // fire UserFirstLogin event
         if (saveResult.includes(PlayerSaveResult.Outcome.CLEAN_INSERT)) {
@@ -99,11 +104,17 @@ public abstract class AbstractConnectionListener {
             this.plugin.getLogger().warn("See here for more info: https://github.com/lucko/LuckPerms/wiki/Network-Installation#pre-setup");
         }
 
-        User user = this.plugin.getStorage().loadUser(uniqueId, username).join();
+        User user = userFuture.join();
         if (user == null) {
             throw new NullPointerException("User is null");
         }
 
+        // pre-calculate the user's cached data for the contexts they're most likely
+        // to have when they join, so it doesn't happen on the first permission check
+        QueryOptions queryOptions = this.plugin.getContextManager().getPredictedInitialQueryOptions();
+        user.getCachedData().getPermissionData(queryOptions);
+        user.getCachedData().getMetaData(queryOptions);
+
         final long time = System.currentTimeMillis() - startTime;
         if (time >= 1000) {
             this.plugin.getLogger().warn("Processing login for " + username + " took " + time + "ms.");
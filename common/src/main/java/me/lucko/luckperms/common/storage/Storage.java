@@ -37,6 +37,7 @@ import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 import me.lucko.luckperms.common.storage.implementation.StorageImplementation;
 import me.lucko.luckperms.common.storage.implementation.split.SplitStorage;
 import me.lucko.luckperms.common.storage.misc.NodeEntry;
+import me.lucko.luckperms.common.storage.misc.StoredUserData;
 import me.lucko.luckperms.common.util.Throwing;
 
 import net.luckperms.api.actionlog.Action;
@@ -55,14 +56,26 @@ import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Provides a {@link CompletableFuture} based API for interacting with a {@link StorageImplementation}.
  */
 public class Storage {
+    // how long a loaded log is reused for, as a fallback for actions logged by
+    // other servers which are not received through the messaging service
+    private static final long LOG_CACHE_EXPIRY = TimeUnit.MINUTES.toNanos(1);
+
     private final LuckPermsPlugin plugin;
     private final StorageImplementation implementation;
 
+    // the last loaded log, reused between lookups until an action is logged.
+    // the version is incremented whenever the cached log becomes stale
+    private final AtomicInteger logVersion = new AtomicInteger();
+    private volatile CachedLog cachedLog = null;
+
     public Storage(LuckPermsPlugin plugin, StorageImplementation implementation) {
         this.plugin = plugin;
         this.implementation = implementation;
@@ -90,7 +103,7 @@ public class Storage {
                 }
                 throw new CompletionException(e);
             }
-        }, this.plugin.getBootstrap().getScheduler().async());
+        }, this.plugin.getBootstrap().getScheduler().io());
     }
 
     private CompletableFuture<Void> makeFuture(Throwing.Runnable runnable) {
@@ -103,7 +116,7 @@ public class Storage {
                 }
                 throw new CompletionException(e);
             }
-        }, this.plugin.getBootstrap().getScheduler().async());
+        }, this.plugin.getBootstrap().getScheduler().io());
     }
 
     public String getName() {
@@ -133,11 +146,33 @@ public class Storage {
     }
 
     public CompletableFuture<Void> logAction(Action entry) {
-        return makeFuture(() -> this.implementation.logAction(entry));
+        return makeFuture(() -> {
+            this.implementation.logAction(entry);
+            invalidateLog();
+        });
     }
 
     public CompletableFuture<Log> getLog() {
-        return makeFuture(this.implementation::getLog);
+        return makeFuture(() -> {
+            int version = this.logVersion.get();
+            long now = System.nanoTime();
+
+            CachedLog cached = this.cachedLog;
+            if (cached != null && cached.version == version && now - cached.expireAt < 0) {
+                return cached.log;
+            }
+
+            Log log = this.implementation.getLog();
+            this.cachedLog = new CachedLog(version, now + LOG_CACHE_EXPIRY, log);
+            return log;
+        });
+    }
+
+    /**
+     * Marks the cached log as stale, so it is loaded again on the next lookup.
+     */
+    public void invalidateLog() {
+        this.logVersion.incrementAndGet();
     }
 
     public CompletableFuture<Void> applyBulkUpdate(BulkUpdate bulkUpdate) {
@@ -162,6 +197,10 @@ public class Storage {
         return makeFuture(this.implementation::getUniqueUsers);
     }
 
+    public CompletableFuture<Void> readAllUserData(Consumer<? super StoredUserData> consumer) {
+        return makeFuture(() -> this.implementation.readAllUserData(consumer));
+    }
+
     public <N extends Node> CompletableFuture<List<NodeEntry<UUID, N>>> searchUserNodes(ConstraintNodeMatcher<N> constraint) {
         return makeFuture(() -> {
             List<NodeEntry<UUID, N>> result = this.implementation.searchUserNodes(constraint);
@@ -271,4 +310,16 @@ public class Storage {
     public CompletableFuture<String> getPlayerName(UUID uniqueId) {
         return makeFuture(() -> this.implementation.getPlayerName(uniqueId));
     }
+
+    private static final class CachedLog {
+        private final int version;
+        private final long expireAt;
+        private final Log log;
+
+        CachedLog(int version, long expireAt, Log log) {
+            this.version = version;
+            this.expireAt = expireAt;
+            this.log = log;
+        }
+    }
 }
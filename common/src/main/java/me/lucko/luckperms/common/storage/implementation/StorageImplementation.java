@@ -33,6 +33,7 @@ import me.lucko.luckperms.common.model.User;
 import me.lucko.luckperms.common.node.matcher.ConstraintNodeMatcher;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 import me.lucko.luckperms.common.storage.misc.NodeEntry;
+import me.lucko.luckperms.common.storage.misc.StoredUserData;
 
 import net.luckperms.api.actionlog.Action;
 import net.luckperms.api.model.PlayerSaveResult;
@@ -46,6 +47,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface StorageImplementation {
     LuckPermsPlugin getPlugin();
@@ -72,6 +74,28 @@ public interface StorageImplementation {
 
     Set<UUID> getUniqueUsers() throws Exception;
 
+    /**
+     * Reads the stored data of every user, passing each to the consumer in turn.
+     *
+     * <p>The default implementation loads and then unloads each user in turn.
+     * Implementations should override this to read the data directly where possible.</p>
+     *
+     * @param consumer the consumer
+     * @throws Exception if an error occurs
+     */
+    default void readAllUserData(Consumer<? super StoredUserData> consumer) throws Exception {
+        for (UUID uniqueId : getUniqueUsers()) {
+            User user = loadUser(uniqueId, null);
+            consumer.accept(new StoredUserData(
+                    uniqueId,
+                    user.getUsername().orElse(null),
+                    user.getPrimaryGroup().getStoredValue().orElse(null),
+                    user.normalData().asSet()
+            ));
+            getPlugin().getUserManager().getHouseKeeper().cleanup(uniqueId);
+        }
+    }
+
     <N extends Node> List<NodeEntry<UUID, N>> searchUserNodes(ConstraintNodeMatcher<N> constraint) throws Exception;
 
     Group createAndLoadGroup(String name) throws Exception;
@@ -34,6 +34,7 @@ import me.lucko.luckperms.common.bulkupdate.BulkUpdate;
 import me.lucko.luckperms.common.context.ContextSetConfigurateSerializer;
 import me.lucko.luckperms.common.context.contextset.ImmutableContextSetImpl;
 import me.lucko.luckperms.common.model.Group;
+import me.lucko.luckperms.common.model.HolderType;
 import me.lucko.luckperms.common.model.Track;
 import me.lucko.luckperms.common.model.User;
 import me.lucko.luckperms.common.model.manager.group.GroupManager;
@@ -47,6 +48,7 @@ import me.lucko.luckperms.common.storage.implementation.StorageImplementation;
 import me.lucko.luckperms.common.storage.implementation.file.loader.ConfigurateLoader;
 import me.lucko.luckperms.common.storage.implementation.file.loader.JsonLoader;
 import me.lucko.luckperms.common.storage.implementation.file.loader.YamlLoader;
+import me.lucko.luckperms.common.storage.misc.StoredUserData;
 import me.lucko.luckperms.common.util.ImmutableCollectors;
 import me.lucko.luckperms.common.util.MoreFiles;
 
@@ -75,12 +77,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Abstract implementation using configurate {@link ConfigurationNode}s to serialize and deserialize
@@ -180,14 +181,11 @@ public abstract class AbstractConfigurateStorage implements StorageImplementatio
         return this.actionLogger.getLog();
     }
 
-    protected ConfigurationNode processBulkUpdate(BulkUpdate bulkUpdate, ConfigurationNode node) {
+    protected ConfigurationNode processBulkUpdate(BulkUpdate bulkUpdate, ConfigurationNode node, HolderType holderType) {
         Set<Node> nodes = readNodes(node);
-        Set<Node> results = nodes.stream()
-                .map(bulkUpdate::apply)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        Set<Node> results = bulkUpdate.apply(nodes, holderType);
 
-        if (nodes.equals(results)) {
+        if (results == null || bulkUpdate.isDryRun()) {
             return null;
         }
 
@@ -231,6 +229,24 @@ public abstract class AbstractConfigurateStorage implements StorageImplementatio
         return user;
     }
 
+    @Override
+    public void readAllUserData(Consumer<? super StoredUserData> consumer) throws Exception {
+        for (UUID uniqueId : getUniqueUsers()) {
+            ConfigurationNode object;
+            try {
+                object = readFile(StorageLocation.USER, uniqueId.toString());
+            } catch (Exception e) {
+                throw reportException(uniqueId.toString(), e);
+            }
+
+            if (object != null) {
+                String name = object.getNode("name").getString();
+                String primaryGroup = object.getNode(this.loader instanceof JsonLoader ? "primaryGroup" : "primary-group").getString();
+                consumer.accept(new StoredUserData(uniqueId, name, primaryGroup, readNodes(object)));
+            }
+        }
+    }
+
     @Override
     public void saveUser(User user) {
         user.getIoLock().lock();
@@ -26,6 +26,7 @@
 package me.lucko.luckperms.common.storage.implementation.file;
 
 import me.lucko.luckperms.common.bulkupdate.BulkUpdate;
+import me.lucko.luckperms.common.model.HolderType;
 import me.lucko.luckperms.common.model.User;
 import me.lucko.luckperms.common.node.matcher.ConstraintNodeMatcher;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
@@ -214,7 +215,7 @@ public class SeparatedConfigurateStorage extends AbstractConfigurateStorage {
                     try {
                         registerFileAction(StorageLocation.USER, file);
                         ConfigurationNode object = readFile(file);
-                        ConfigurationNode results = processBulkUpdate(bulkUpdate, object);
+                        ConfigurationNode results = processBulkUpdate(bulkUpdate, object, HolderType.USER);
                         if (results != null) {
                             saveFile(file, object);
                         }
@@ -231,7 +232,7 @@ public class SeparatedConfigurateStorage extends AbstractConfigurateStorage {
                     try {
                         registerFileAction(StorageLocation.GROUP, file);
                         ConfigurationNode object = readFile(file);
-                        ConfigurationNode results = processBulkUpdate(bulkUpdate, object);
+                        ConfigurationNode results = processBulkUpdate(bulkUpdate, object, HolderType.GROUP);
                         if (results != null) {
                             saveFile(file, object);
                         }
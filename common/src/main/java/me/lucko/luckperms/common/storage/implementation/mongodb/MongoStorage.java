@@ -42,6 +42,7 @@ import me.lucko.luckperms.common.actionlog.LoggedAction;
 import me.lucko.luckperms.common.bulkupdate.BulkUpdate;
 import me.lucko.luckperms.common.context.contextset.MutableContextSetImpl;
 import me.lucko.luckperms.common.model.Group;
+import me.lucko.luckperms.common.model.HolderType;
 import me.lucko.luckperms.common.model.Track;
 import me.lucko.luckperms.common.model.User;
 import me.lucko.luckperms.common.model.manager.group.GroupManager;
@@ -52,6 +53,7 @@ import me.lucko.luckperms.common.storage.implementation.StorageImplementation;
 import me.lucko.luckperms.common.storage.misc.NodeEntry;
 import me.lucko.luckperms.common.storage.misc.PlayerSaveResultImpl;
 import me.lucko.luckperms.common.storage.misc.StorageCredentials;
+import me.lucko.luckperms.common.storage.misc.StoredUserData;
 import me.lucko.luckperms.common.util.Iterators;
 
 import net.luckperms.api.actionlog.Action;
@@ -72,10 +74,10 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class MongoStorage implements StorageImplementation {
@@ -251,12 +253,9 @@ public class MongoStorage implements StorageImplementation {
 
                     UUID uuid = getDocumentId(d);
                     Set<Node> nodes = new HashSet<>(nodesFromDoc(d));
-                    Set<Node> results = nodes.stream()
-                            .map(bulkUpdate::apply)
-                            .filter(Objects::nonNull)
-                            .collect(Collectors.toSet());
+                    Set<Node> results = bulkUpdate.apply(nodes, HolderType.USER);
 
-                    if (!nodes.equals(results)) {
+                    if (results != null && !bulkUpdate.isDryRun()) {
                         List<Document> newNodes = results.stream()
                                 .map(MongoStorage::nodeToDoc)
                                 .collect(Collectors.toList());
@@ -276,12 +275,9 @@ public class MongoStorage implements StorageImplementation {
 
                     String holder = d.getString("_id");
                     Set<Node> nodes = new HashSet<>(nodesFromDoc(d));
-                    Set<Node> results = nodes.stream()
-                            .map(bulkUpdate::apply)
-                            .filter(Objects::nonNull)
-                            .collect(Collectors.toSet());
+                    Set<Node> results = bulkUpdate.apply(nodes, HolderType.GROUP);
 
-                    if (!nodes.equals(results)) {
+                    if (results != null && !bulkUpdate.isDryRun()) {
                         List<Document> newNodes = results.stream()
                                 .map(MongoStorage::nodeToDoc)
                                 .collect(Collectors.toList());
@@ -363,6 +359,25 @@ public class MongoStorage implements StorageImplementation {
         return uuids;
     }
 
+    @Override
+    public void readAllUserData(Consumer<? super StoredUserData> consumer) {
+        MongoCollection<Document> c = this.database.getCollection(this.prefix + "users");
+        try (MongoCursor<Document> cursor = c.find().iterator()) {
+            while (cursor.hasNext()) {
+                Document d = cursor.next();
+
+                UUID uuid;
+                try {
+                    uuid = getDocumentId(d);
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+
+                consumer.accept(new StoredUserData(uuid, d.getString("name"), d.getString("primaryGroup"), new HashSet<>(nodesFromDoc(d))));
+            }
+        }
+    }
+
     @Override
     public <N extends Node> List<NodeEntry<UUID, N>> searchUserNodes(ConstraintNodeMatcher<N> constraint) throws Exception {
         List<NodeEntry<UUID, N>> held = new ArrayList<>();
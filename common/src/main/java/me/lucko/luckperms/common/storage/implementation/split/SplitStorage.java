@@ -37,6 +37,7 @@ import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 import me.lucko.luckperms.common.storage.StorageType;
 import me.lucko.luckperms.common.storage.implementation.StorageImplementation;
 import me.lucko.luckperms.common.storage.misc.NodeEntry;
+import me.lucko.luckperms.common.storage.misc.StoredUserData;
 
 import net.luckperms.api.actionlog.Action;
 import net.luckperms.api.model.PlayerSaveResult;
@@ -48,6 +49,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class SplitStorage implements StorageImplementation {
     private final LuckPermsPlugin plugin;
@@ -138,6 +140,11 @@ public class SplitStorage implements StorageImplementation {
         }
     }
 
+    @Override
+    public void readAllUserData(Consumer<? super StoredUserData> consumer) throws Exception {
+        implFor(SplitStorageType.USER).readAllUserData(consumer);
+    }
+
     @Override
     public User loadUser(UUID uniqueId, String username) throws Exception {
         return implFor(SplitStorageType.USER).loadUser(uniqueId, username);
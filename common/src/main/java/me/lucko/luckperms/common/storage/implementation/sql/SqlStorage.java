@@ -34,6 +34,7 @@ import me.lucko.luckperms.common.bulkupdate.BulkUpdate;
 import me.lucko.luckperms.common.bulkupdate.PreparedStatementBuilder;
 import me.lucko.luckperms.common.context.ContextSetJsonSerializer;
 import me.lucko.luckperms.common.model.Group;
+import me.lucko.luckperms.common.model.HolderType;
 import me.lucko.luckperms.common.model.Track;
 import me.lucko.luckperms.common.model.User;
 import me.lucko.luckperms.common.model.manager.group.GroupManager;
@@ -43,6 +44,7 @@ import me.lucko.luckperms.common.storage.implementation.StorageImplementation;
 import me.lucko.luckperms.common.storage.implementation.sql.connection.ConnectionFactory;
 import me.lucko.luckperms.common.storage.misc.NodeEntry;
 import me.lucko.luckperms.common.storage.misc.PlayerSaveResultImpl;
+import me.lucko.luckperms.common.storage.misc.StoredUserData;
 import me.lucko.luckperms.common.util.Uuids;
 import me.lucko.luckperms.common.util.gson.GsonProvider;
 
@@ -70,6 +72,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -81,6 +84,9 @@ public class SqlStorage implements StorageImplementation {
     private static final String USER_PERMISSIONS_DELETE = "DELETE FROM '{prefix}user_permissions' WHERE uuid=?";
     private static final String USER_PERMISSIONS_INSERT = "INSERT INTO '{prefix}user_permissions' (uuid, permission, value, server, world, expiry, contexts) VALUES(?, ?, ?, ?, ?, ?, ?)";
     private static final String USER_PERMISSIONS_SELECT_DISTINCT = "SELECT DISTINCT uuid FROM '{prefix}user_permissions'";
+    private static final int USER_DATA_PAGE_SIZE = 1000;
+    private static final String USER_PERMISSIONS_SELECT_DISTINCT_PAGE = "SELECT DISTINCT uuid FROM '{prefix}user_permissions' WHERE uuid > ? ORDER BY uuid LIMIT " + USER_DATA_PAGE_SIZE;
+    private static final String USER_PERMISSIONS_SELECT_RANGE_WITH_PLAYER_DATA = "SELECT up.uuid, up.id, up.permission, up.value, up.server, up.world, up.expiry, up.contexts, p.username, p.primary_group FROM '{prefix}user_permissions' up LEFT JOIN '{prefix}players' p ON up.uuid = p.uuid WHERE up.uuid >= ? AND up.uuid <= ? ORDER BY up.uuid";
     private static final String USER_PERMISSIONS_SELECT_PERMISSION = "SELECT uuid, id, permission, value, server, world, expiry, contexts FROM '{prefix}user_permissions' WHERE ";
 
     private static final String PLAYER_SELECT_UUID_BY_USERNAME = "SELECT uuid FROM '{prefix}players' WHERE username=? LIMIT 1";
@@ -251,15 +257,33 @@ public class SqlStorage implements StorageImplementation {
         try (Connection c = this.connectionFactory.getConnection()) {
             if (bulkUpdate.getDataType().isIncludingUsers()) {
                 String table = this.statementProcessor.apply("{prefix}user_permissions");
-                try (PreparedStatement ps = bulkUpdate.buildAsSql().build(c, q -> q.replace("{table}", table))) {
-                    ps.execute();
+                if (bulkUpdate.isDryRun()) {
+                    countBulkUpdate(c, bulkUpdate, table, "uuid", HolderType.USER);
+                } else {
+                    try (PreparedStatement ps = bulkUpdate.buildAsSql().build(c, q -> q.replace("{table}", table))) {
+                        ps.execute();
+                    }
                 }
             }
 
             if (bulkUpdate.getDataType().isIncludingGroups()) {
                 String table = this.statementProcessor.apply("{prefix}group_permissions");
-                try (PreparedStatement ps = bulkUpdate.buildAsSql().build(c, q -> q.replace("{table}", table))) {
-                    ps.execute();
+                if (bulkUpdate.isDryRun()) {
+                    countBulkUpdate(c, bulkUpdate, table, "name", HolderType.GROUP);
+                } else {
+                    try (PreparedStatement ps = bulkUpdate.buildAsSql().build(c, q -> q.replace("{table}", table))) {
+                        ps.execute();
+                    }
+                }
+            }
+        }
+    }
+
+    private static void countBulkUpdate(Connection c, BulkUpdate bulkUpdate, String table, String holderColumn, HolderType holderType) throws SQLException {
+        try (PreparedStatement ps = bulkUpdate.buildAsSqlCount(holderColumn).build(c, q -> q.replace("{table}", table))) {
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    bulkUpdate.getStatistics().record(holderType, rs.getInt(2), rs.getInt(1));
                 }
             }
         }
@@ -365,6 +389,74 @@ public class SqlStorage implements StorageImplementation {
         return uuids;
     }
 
+    @Override
+    public void readAllUserData(Consumer<? super StoredUserData> consumer) throws SQLException {
+        // most drivers buffer the whole result set in memory unless specially configured,
+        // so users are read in pages (keyed by uuid) to keep the memory usage bounded
+        String lastUuid = "";
+        try (Connection c = this.connectionFactory.getConnection()) {
+            while (true) {
+                List<String> page = new ArrayList<>(USER_DATA_PAGE_SIZE);
+                try (PreparedStatement ps = c.prepareStatement(this.statementProcessor.apply(USER_PERMISSIONS_SELECT_DISTINCT_PAGE))) {
+                    ps.setString(1, lastUuid);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            page.add(rs.getString("uuid"));
+                        }
+                    }
+                }
+
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                try (PreparedStatement ps = c.prepareStatement(this.statementProcessor.apply(USER_PERMISSIONS_SELECT_RANGE_WITH_PLAYER_DATA))) {
+                    ps.setString(1, page.get(0));
+                    ps.setString(2, page.get(page.size() - 1));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        readUserDataPage(rs, consumer);
+                    }
+                }
+
+                if (page.size() < USER_DATA_PAGE_SIZE) {
+                    break;
+                }
+                lastUuid = page.get(page.size() - 1);
+            }
+        }
+    }
+
+    private static void readUserDataPage(ResultSet rs, Consumer<? super StoredUserData> consumer) throws SQLException {
+        // rows are ordered by uuid, so each user's data can be passed on as soon as the next user's rows begin
+        String currentUuid = null;
+        String username = null;
+        String primaryGroup = null;
+        Set<Node> nodes = new HashSet<>();
+
+        while (rs.next()) {
+            String uuid = rs.getString("uuid");
+            if (!uuid.equals(currentUuid)) {
+                acceptUserData(consumer, currentUuid, username, primaryGroup, nodes);
+                currentUuid = uuid;
+                username = rs.getString("username");
+                primaryGroup = rs.getString("primary_group");
+                nodes = new HashSet<>();
+            }
+            nodes.add(readNode(rs).toNode());
+        }
+        acceptUserData(consumer, currentUuid, username, primaryGroup, nodes);
+    }
+
+    private static void acceptUserData(Consumer<? super StoredUserData> consumer, String uuidString, String username, String primaryGroup, Set<Node> nodes) {
+        if (uuidString == null) {
+            return;
+        }
+        UUID uuid = Uuids.fromString(uuidString);
+        if (uuid != null) {
+            consumer.accept(new StoredUserData(uuid, username, primaryGroup, nodes));
+        }
+    }
+
     @Override
     public <N extends Node> List<NodeEntry<UUID, N>> searchUserNodes(ConstraintNodeMatcher<N> constraint) throws SQLException {
         PreparedStatementBuilder builder = new PreparedStatementBuilder().append(USER_PERMISSIONS_SELECT_PERMISSION);
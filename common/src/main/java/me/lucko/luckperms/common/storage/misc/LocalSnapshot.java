@@ -0,0 +1,166 @@
+/*
+ * This file is part of LuckPerms, licensed under the MIT License.
+ *
+ *  Copyright (c) lucko (Luck) <luck@lucko.me>
+ *  Copyright (c) contributors
+ *
+ *  Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ *  The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ *  THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ *  IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ *  FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ *  AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ *  LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ *  OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ *  SOFTWARE.
+ */
+
+package me.lucko.luckperms.common.storage.misc;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import me.lucko.luckperms.common.model.Group;
+import me.lucko.luckperms.common.model.Track;
+import me.lucko.luckperms.common.node.utils.NodeJsonSerializer;
+import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
+import me.lucko.luckperms.common.util.gson.GsonProvider;
+
+import net.luckperms.api.model.data.DataType;
+import net.luckperms.api.node.Node;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A local copy of all group and track data, written after each sync.
+ *
+ * <p>Used to populate the group and track managers on startup, before the
+ * initial load from storage has completed.</p>
+ */
+public class LocalSnapshot {
+    private final LuckPermsPlugin plugin;
+    private final Path file;
+
+    public LocalSnapshot(LuckPermsPlugin plugin) {
+        this.plugin = plugin;
+        this.file = plugin.getBootstrap().getDataDirectory().resolve("snapshot.json.gz");
+    }
+
+    /**
+     * Loads the snapshot into the group and track managers.
+     *
+     * <p>The managers are only modified once the whole snapshot has been read
+     * successfully. If it is missing, unreadable or malformed, false is
+     * returned and the caller should load from storage as normal.</p>
+     *
+     * @return true if a snapshot was loaded
+     */
+    public boolean load() {
+        if (!Files.exists(this.file)) {
+            return false;
+        }
+
+        Map<String, Set<Node>> groups = new LinkedHashMap<>();
+        Map<String, List<String>> tracks = new LinkedHashMap<>();
+        try {
+            JsonObject data;
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(Files.newInputStream(this.file)), StandardCharsets.UTF_8))) {
+                data = GsonProvider.normal().fromJson(reader, JsonObject.class);
+            }
+            if (data == null || !data.has("groups") || !data.has("tracks")) {
+                throw new IllegalStateException("missing group or track data");
+            }
+
+            for (Map.Entry<String, JsonElement> entry : data.getAsJsonObject("groups").entrySet()) {
+                groups.put(entry.getKey(), NodeJsonSerializer.deserializeNodes(entry.getValue().getAsJsonArray()));
+            }
+
+            for (Map.Entry<String, JsonElement> entry : data.getAsJsonObject("tracks").entrySet()) {
+                List<String> trackGroups = new ArrayList<>();
+                for (JsonElement group : entry.getValue().getAsJsonArray()) {
+                    trackGroups.add(group.getAsString());
+                }
+                tracks.put(entry.getKey(), trackGroups);
+            }
+
+            // everything was read successfully, so populate the managers
+            for (Map.Entry<String, Set<Node>> entry : groups.entrySet()) {
+                Group group = this.plugin.getGroupManager().getOrMake(entry.getKey());
+                group.setNodes(DataType.NORMAL, entry.getValue());
+            }
+
+            for (Map.Entry<String, List<String>> entry : tracks.entrySet()) {
+                Track track = this.plugin.getTrackManager().getOrMake(entry.getKey());
+                track.setGroups(entry.getValue());
+            }
+        } catch (Exception e) {
+            this.plugin.getLogger().warn("Unable to read local snapshot: " + e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Writes the current contents of the group and track managers to the snapshot.
+     */
+    public void save() {
+        Path tmpFile = this.file.resolveSibling(this.file.getFileName().toString() + ".tmp");
+        try {
+            try (JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tmpFile)), StandardCharsets.UTF_8)))) {
+                writer.beginObject();
+
+                writer.name("groups").beginObject();
+                for (Group group : this.plugin.getGroupManager().getAll().values()) {
+                    writer.name(group.getName());
+                    NodeJsonSerializer.writeNodes(writer, group.normalData().asList());
+                }
+                writer.endObject();
+
+                writer.name("tracks").beginObject();
+                for (Track track : this.plugin.getTrackManager().getAll().values()) {
+                    writer.name(track.getName()).beginArray();
+                    for (String group : track.getGroups()) {
+                        writer.value(group);
+                    }
+                    writer.endArray();
+                }
+                writer.endObject();
+
+                writer.endObject();
+            }
+
+            try {
+                Files.move(tmpFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
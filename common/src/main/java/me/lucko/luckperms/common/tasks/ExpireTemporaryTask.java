@@ -25,11 +25,21 @@
 
 package me.lucko.luckperms.common.tasks;
 
+import me.lucko.luckperms.common.model.ExpiryIndex;
 import me.lucko.luckperms.common.model.Group;
 import me.lucko.luckperms.common.model.PermissionHolder;
 import me.lucko.luckperms.common.model.User;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 
+import net.luckperms.api.model.PermissionHolder.Identifier;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 public class ExpireTemporaryTask implements Runnable {
     private final LuckPermsPlugin plugin;
 
@@ -39,21 +49,47 @@ public class ExpireTemporaryTask implements Runnable {
 
     @Override
     public void run() {
-        boolean groupChanges = false;
-        for (Group group : this.plugin.getGroupManager().getAll().values()) {
-            if (shouldSkip(group)) {
+        ExpiryIndex expiryIndex = this.plugin.getExpiryIndex();
+        long now = Instant.now().getEpochSecond();
+
+        // collect the holders which may have expired nodes
+        Set<Group> groups = new LinkedHashSet<>();
+        Set<User> users = new LinkedHashSet<>();
+        List<ExpiryIndex.Entry> deferred = new ArrayList<>();
+
+        ExpiryIndex.Entry entry;
+        while ((entry = expiryIndex.pollExpired(now)) != null) {
+            PermissionHolder holder = getIfLoaded(entry.getHolder());
+            if (holder == null) {
+                // the holder isn't loaded - the entry will be re-added if/when it is
                 continue;
             }
+            if (shouldSkip(holder)) {
+                deferred.add(entry);
+                continue;
+            }
+
+            if (holder instanceof Group) {
+                groups.add((Group) holder);
+            } else {
+                users.add((User) holder);
+            }
+        }
+
+        // try again on the next run
+        for (ExpiryIndex.Entry e : deferred) {
+            expiryIndex.add(e);
+        }
+
+        boolean groupChanges = false;
+        for (Group group : groups) {
             if (group.auditTemporaryNodes()) {
                 this.plugin.getStorage().saveGroup(group);
                 groupChanges = true;
             }
         }
 
-        for (User user : this.plugin.getUserManager().getAll().values()) {
-            if (shouldSkip(user)) {
-                continue;
-            }
+        for (User user : users) {
             if (user.auditTemporaryNodes()) {
                 this.plugin.getStorage().saveUser(user);
             }
@@ -65,6 +101,14 @@ public class ExpireTemporaryTask implements Runnable {
         }
     }
 
+    private PermissionHolder getIfLoaded(Identifier identifier) {
+        if (identifier.getType().equals(Identifier.USER_TYPE)) {
+            return this.plugin.getUserManager().getIfLoaded(UUID.fromString(identifier.getName()));
+        } else {
+            return this.plugin.getGroupManager().getIfLoaded(identifier.getName());
+        }
+    }
+
     // return true if the holder's io lock is currently held, false otherwise
     private static boolean shouldSkip(PermissionHolder holder) {
         // if the holder is currently being manipulated by the storage impl,
@@ -78,4 +122,4 @@ public class ExpireTemporaryTask implements Runnable {
         holder.getIoLock().unlock();
         return false;
     }
-}
\ No newline at end of file
+}
@@ -26,8 +26,10 @@
 package me.lucko.luckperms.common.tasks;
 
 import me.lucko.luckperms.common.cache.BufferedRequest;
+import me.lucko.luckperms.common.config.ConfigKeys;
 import me.lucko.luckperms.common.model.manager.group.GroupManager;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
+import me.lucko.luckperms.common.storage.misc.LocalSnapshot;
 
 import net.luckperms.api.event.cause.CreationCause;
 
@@ -74,6 +76,11 @@ public class SyncTask implements Runnable {
         this.plugin.getGroupManager().invalidateAllGroupCaches();
         this.plugin.getUserManager().invalidateAllUserCaches();
 
+        // keep the local snapshot up to date
+        if (this.plugin.getConfiguration().get(ConfigKeys.WARM_START_SNAPSHOT)) {
+            new LocalSnapshot(this.plugin).save();
+        }
+
         this.plugin.getEventDispatcher().dispatchPostSync();
     }
 
@@ -29,13 +29,16 @@ import com.google.common.base.Splitter;
 
 import me.lucko.luckperms.common.plugin.scheduler.SchedulerAdapter;
 import me.lucko.luckperms.common.plugin.scheduler.SchedulerTask;
+import me.lucko.luckperms.common.util.ExpiringSet;
 import me.lucko.luckperms.common.util.ImmutableCollectors;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Stores a collection of all permissions known to the platform.
@@ -43,16 +46,24 @@ import java.util.concurrent.TimeUnit;
 public class PermissionRegistry implements AutoCloseable {
     private static final Splitter DOT_SPLIT = Splitter.on('.').omitEmptyStrings();
 
+    /** The maximum number of permissions waiting to be added to the tree */
+    private static final int MAX_QUEUE_SIZE = 10_000;
+
     /** The root node in the tree */
     private final TreeNode rootNode;
     /** A queue of permission strings to be added to the tree */
     private final Queue<String> queue;
+    /** The number of elements in the queue */
+    private final AtomicInteger queueSize = new AtomicInteger();
+    /** Permissions which have recently been offered, used to avoid queueing duplicates */
+    private final Set<String> recentlyOffered;
     /** The tick task */
     private final SchedulerTask task;
 
     public PermissionRegistry(SchedulerAdapter scheduler) {
         this.rootNode = new TreeNode();
         this.queue = new ConcurrentLinkedQueue<>();
+        this.recentlyOffered = new ExpiringSet<>(10, TimeUnit.MINUTES, 50_000);
         this.task = scheduler.asyncRepeating(this::tick, 1, TimeUnit.SECONDS);
     }
 
@@ -68,11 +79,25 @@ public class PermissionRegistry implements AutoCloseable {
         if (permission == null) {
             throw new NullPointerException("permission");
         }
+
+        // don't queue the same permission over and over
+        if (!this.recentlyOffered.add(permission)) {
+            return;
+        }
+
+        // if the queue is full, drop the permission - it can be offered again later
+        if (this.queueSize.incrementAndGet() > MAX_QUEUE_SIZE) {
+            this.queueSize.decrementAndGet();
+            this.recentlyOffered.remove(permission);
+            return;
+        }
+
         this.queue.offer(permission);
     }
 
     private void tick() {
         for (String e; (e = this.queue.poll()) != null; ) {
+            this.queueSize.decrementAndGet();
             insert(e);
         }
     }
@@ -32,6 +32,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * Represents one "branch" or "level" of the node tree
@@ -61,12 +63,19 @@ public class TreeNode {
         return true;
     }
 
-    private Map<String, TreeNode> children = null;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<TreeNode, Map> CHILDREN_UPDATER = AtomicReferenceFieldUpdater.newUpdater(TreeNode.class, Map.class, "children");
+
+    private volatile Map<String, TreeNode> children = null;
 
     private final int level;
     private final TreeNode parent;
 
-    private int cachedDeepSize = Integer.MIN_VALUE;
+    // the number of direct children
+    private final AtomicInteger childCount = new AtomicInteger();
+
+    // the number of leaf nodes in this subtree, maintained on insert
+    private final AtomicInteger deepSize = new AtomicInteger(1);
 
     public TreeNode() {
         this.level = 0;
@@ -79,28 +88,40 @@ public class TreeNode {
     }
 
     // lazy init
-    private synchronized Map<String, TreeNode> getChildMap() {
-        if (this.children == null) {
-            this.children = new ConcurrentHashMap<>();
+    private Map<String, TreeNode> getChildMap() {
+        Map<String, TreeNode> children = this.children;
+        if (children == null) {
+            CHILDREN_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>());
+            children = this.children;
         }
-        return this.children;
+        return children;
     }
 
     public @Nullable TreeNode tryInsert(String s) {
-        Map<String, TreeNode> childMap = getChildMap();
         if (!allowInsert(this)) {
             return null;
         }
 
-        return childMap.compute(s, (key, prev) -> {
-            if (prev != null) {
-                return prev;
-            }
+        Map<String, TreeNode> childMap = getChildMap();
+        TreeNode existing = childMap.get(s);
+        if (existing != null) {
+            return existing;
+        }
+
+        TreeNode node = new TreeNode(this);
+        existing = childMap.putIfAbsent(s, node);
+        if (existing != null) {
+            return existing;
+        }
 
-            // dirty the cache & return a new node
-            this.cachedDeepSize = Integer.MIN_VALUE;
-            return new TreeNode(this);
-        });
+        // the first child replaces this node as a leaf, so the leaf count is unchanged.
+        // otherwise, add one to the count for this node and all of its parents.
+        if (this.childCount.incrementAndGet() > 1) {
+            for (TreeNode n = this; n != null; n = n.parent) {
+                n.deepSize.incrementAndGet();
+            }
+        }
+        return node;
     }
 
     public Optional<Map<String, TreeNode>> getChildren() {
@@ -108,22 +129,15 @@ public class TreeNode {
     }
 
     public int getDeepSize() {
-        if (this.cachedDeepSize != Integer.MIN_VALUE) {
-            return this.cachedDeepSize;
-        }
-
-        if (this.children == null) {
-            return (this.cachedDeepSize = 1);
-        } else {
-            return (this.cachedDeepSize = this.children.values().stream().mapToInt(TreeNode::getDeepSize).sum());
-        }
+        return this.deepSize.get();
     }
 
     public ImmutableTreeNode makeImmutableCopy() {
-        if (this.children == null) {
+        Map<String, TreeNode> children = this.children;
+        if (children == null) {
             return new ImmutableTreeNode(null);
         } else {
-            return new ImmutableTreeNode(this.children.entrySet().stream()
+            return new ImmutableTreeNode(children.entrySet().stream()
                     .map(e -> Maps.immutableEntry(
                             e.getKey(),
                             e.getValue().makeImmutableCopy()
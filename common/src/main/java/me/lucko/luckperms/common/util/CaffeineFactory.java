@@ -27,7 +27,8 @@ package me.lucko.luckperms.common.util;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
-import java.util.concurrent.Executor;
+import me.lucko.luckperms.common.plugin.scheduler.InstrumentedExecutor;
+
 import java.util.concurrent.ForkJoinPool;
 
 public final class CaffeineFactory {
@@ -44,13 +45,13 @@ public final class CaffeineFactory {
      *
      * By using our own pool, we ensure this will never happen.
      */
-    private static final ForkJoinPool loaderPool = new ForkJoinPool();
+    private static final InstrumentedExecutor loaderPool = new InstrumentedExecutor("cache", new ForkJoinPool());
 
     public static Caffeine<Object, Object> newBuilder() {
         return Caffeine.newBuilder().executor(loaderPool);
     }
 
-    public static Executor executor() {
+    public static InstrumentedExecutor executor() {
         return loaderPool;
     }
 
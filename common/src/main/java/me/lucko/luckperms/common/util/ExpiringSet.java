@@ -45,6 +45,11 @@ public class ExpiringSet<E> extends ForwardingSet<E> {
         this.setView = Collections.newSetFromMap(cache.asMap());
     }
 
+    public ExpiringSet(long duration, TimeUnit unit, long maximumSize) {
+        Cache<E, Boolean> cache = CaffeineFactory.newBuilder().expireAfterAccess(duration, unit).maximumSize(maximumSize).build();
+        this.setView = Collections.newSetFromMap(cache.asMap());
+    }
+
     @Override
     protected Set<E> delegate() {
         return this.setView;
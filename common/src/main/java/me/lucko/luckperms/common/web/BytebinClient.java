@@ -30,8 +30,11 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okio.BufferedSink;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 
 public class BytebinClient extends AbstractHttpClient {
 
@@ -79,8 +82,26 @@ public class BytebinClient extends AbstractHttpClient {
      * @throws IOException if an error occurs
      */
     public Content postContent(byte[] buf, MediaType contentType, boolean allowModification) throws IOException, UnsuccessfulRequestException {
-        RequestBody body = RequestBody.create(contentType, buf);
+        return postContent(RequestBody.create(contentType, buf), allowModification);
+    }
 
+    /**
+     * POSTs content to bytebin, compressing it with GZIP as it is written.
+     *
+     * <p>The content is streamed to bytebin using chunked transfer encoding,
+     * so it is never held in memory in full.</p>
+     *
+     * @param content the content writer
+     * @param contentType the type of the content
+     * @param allowModification if the paste should be modifiable
+     * @return the key of the resultant content
+     * @throws IOException if an error occurs
+     */
+    public Content postContent(ContentWriter content, MediaType contentType, boolean allowModification) throws IOException, UnsuccessfulRequestException {
+        return postContent(new StreamingRequestBody(content, contentType), allowModification);
+    }
+
+    private Content postContent(RequestBody body, boolean allowModification) throws IOException, UnsuccessfulRequestException {
         Request.Builder requestBuilder = new Request.Builder()
                 .url(this.url + "post")
                 .header("User-Agent", this.userAgent)
@@ -134,6 +155,50 @@ public class BytebinClient extends AbstractHttpClient {
         makeHttpRequest(request).close();
     }
 
+    /**
+     * Writes uncompressed content to be uploaded to bytebin.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        /**
+         * Writes the content to the given stream. The stream should not be closed.
+         *
+         * <p>May be called more than once if the request is retried.</p>
+         *
+         * @param out the stream
+         * @throws IOException if an error occurs
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static final class StreamingRequestBody extends RequestBody {
+        private final ContentWriter content;
+        private final MediaType contentType;
+
+        StreamingRequestBody(ContentWriter content, MediaType contentType) {
+            this.content = content;
+            this.contentType = contentType;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return this.contentType;
+        }
+
+        @Override
+        public long contentLength() {
+            return -1; // unknown - use chunked encoding
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            GZIPOutputStream out = new GZIPOutputStream(sink.outputStream(), 8192);
+            this.content.write(out);
+            out.finish();
+        }
+    }
+
     public static final class Content {
         private final String key;
         private final boolean modifiable;
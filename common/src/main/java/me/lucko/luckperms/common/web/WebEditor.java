@@ -27,6 +27,7 @@ package me.lucko.luckperms.common.web;
 
 import com.google.common.base.Preconditions;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import me.lucko.luckperms.common.command.CommandResult;
 import me.lucko.luckperms.common.config.ConfigKeys;
@@ -39,8 +40,6 @@ import me.lucko.luckperms.common.node.utils.NodeJsonSerializer;
 import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 import me.lucko.luckperms.common.sender.Sender;
 import me.lucko.luckperms.common.util.gson.GsonProvider;
-import me.lucko.luckperms.common.util.gson.JArray;
-import me.lucko.luckperms.common.util.gson.JObject;
 
 import net.kyori.text.Component;
 import net.kyori.text.TextComponent;
@@ -54,15 +53,14 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Utility methods for interacting with the LuckPerms web permission editor.
@@ -70,22 +68,29 @@ import java.util.zip.GZIPOutputStream;
 public final class WebEditor {
     private WebEditor() {}
 
-    private static JObject writeData(PermissionHolder holder) {
-        return new JObject()
-                .add("type", holder.getType().toString())
-                .add("id", holder.getObjectName())
-                .add("displayName", holder.getPlainDisplayName())
-                .add("nodes", NodeJsonSerializer.serializeNodes(holder.normalData().asList()));
+    private static void writeData(JsonWriter writer, PermissionHolder holder) throws IOException {
+        writer.beginObject();
+        writer.name("type").value(holder.getType().toString());
+        writer.name("id").value(holder.getObjectName());
+        writer.name("displayName").value(holder.getPlainDisplayName());
+        writer.name("nodes");
+        NodeJsonSerializer.writeNodes(writer, holder.normalData().asList());
+        writer.endObject();
     }
 
-    private static JObject writeData(Track track) {
-        return new JObject()
-                .add("type", "track")
-                .add("id", track.getName())
-                .add("groups", new JArray().consume(a -> track.getGroups().forEach(a::add)));
+    private static void writeData(JsonWriter writer, Track track) throws IOException {
+        writer.beginObject();
+        writer.name("type").value("track");
+        writer.name("id").value(track.getName());
+        writer.name("groups").beginArray();
+        for (String group : track.getGroups()) {
+            writer.value(group);
+        }
+        writer.endArray();
+        writer.endObject();
     }
 
-    public static JsonObject formPayload(List<PermissionHolder> holders, List<Track> tracks, Sender sender, String cmdLabel, LuckPermsPlugin plugin) {
+    public static Payload formPayload(List<PermissionHolder> holders, List<Track> tracks, Sender sender, String cmdLabel, LuckPermsPlugin plugin) {
         Preconditions.checkArgument(!holders.isEmpty(), "holders is empty");
 
         ImmutableContextSet.Builder potentialContexts = new ImmutableContextSetImpl.BuilderImpl();
@@ -94,56 +99,84 @@ public final class WebEditor {
             holder.normalData().forEach(node -> potentialContexts.addAll(node.getContexts()));
         }
 
-        // form the payload data
-        return new JObject()
-                .add("metadata", new JObject()
-                        .add("commandAlias", cmdLabel)
-                        .add("uploader", new JObject()
-                                .add("name", sender.getNameWithLocation())
-                                .add("uuid", sender.getUniqueId().toString())
-                        )
-                        .add("time", System.currentTimeMillis())
-                        .add("pluginVersion", plugin.getBootstrap().getVersion())
-                )
-                .add("permissionHolders", new JArray()
-                        .consume(arr -> {
-                            for (PermissionHolder holder : holders) {
-                                arr.add(writeData(holder));
-                            }
-                        })
-                )
-                .add("tracks", new JArray()
-                        .consume(arr -> {
-                            for (Track track : tracks) {
-                                arr.add(writeData(track));
-                            }
-                        })
-                )
-                .add("knownPermissions", new JArray()
-                        .consume(arr -> {
-                            for (String perm : plugin.getPermissionRegistry().rootAsList()) {
-                                arr.add(perm);
-                            }
-                        })
-                )
-                .consume(o -> {
-                    o.add("potentialContexts", ContextSetJsonSerializer.serializeContextSet(potentialContexts.build()));
-                })
-                .toJson();
+        return new Payload(holders, tracks, potentialContexts.build(), sender, cmdLabel, plugin);
     }
 
-    public static CommandResult post(JsonObject payload, Sender sender, LuckPermsPlugin plugin) {
-        // upload the payload data to gist
-        ByteArrayOutputStream bytesOut = new ByteArrayOutputStream();
-        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytesOut), StandardCharsets.UTF_8)) {
-            GsonProvider.prettyPrinting().toJson(payload, writer);
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * The data sent to the web editor.
+     *
+     * <p>Written directly to the upload stream, without forming an intermediary
+     * json tree in memory.</p>
+     */
+    public static final class Payload implements BytebinClient.ContentWriter {
+        private final List<PermissionHolder> holders;
+        private final List<Track> tracks;
+        private final ImmutableContextSet potentialContexts;
+        private final String uploaderName;
+        private final String uploaderUniqueId;
+        private final String cmdLabel;
+        private final long time;
+        private final LuckPermsPlugin plugin;
+
+        private Payload(List<PermissionHolder> holders, List<Track> tracks, ImmutableContextSet potentialContexts, Sender sender, String cmdLabel, LuckPermsPlugin plugin) {
+            this.holders = holders;
+            this.tracks = tracks;
+            this.potentialContexts = potentialContexts;
+            this.uploaderName = sender.getNameWithLocation();
+            this.uploaderUniqueId = sender.getUniqueId().toString();
+            this.cmdLabel = cmdLabel;
+            this.time = System.currentTimeMillis();
+            this.plugin = plugin;
         }
 
+        @Override
+        public void write(OutputStream out) throws IOException {
+            JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            writer.beginObject();
+
+            writer.name("metadata").beginObject();
+            writer.name("commandAlias").value(this.cmdLabel);
+            writer.name("uploader").beginObject();
+            writer.name("name").value(this.uploaderName);
+            writer.name("uuid").value(this.uploaderUniqueId);
+            writer.endObject();
+            writer.name("time").value(this.time);
+            writer.name("pluginVersion").value(this.plugin.getBootstrap().getVersion());
+            writer.endObject();
+
+            writer.name("permissionHolders").beginArray();
+            for (PermissionHolder holder : this.holders) {
+                writeData(writer, holder);
+            }
+            writer.endArray();
+
+            writer.name("tracks").beginArray();
+            for (Track track : this.tracks) {
+                writeData(writer, track);
+            }
+            writer.endArray();
+
+            writer.name("knownPermissions").beginArray();
+            for (String perm : this.plugin.getPermissionRegistry().rootAsList()) {
+                writer.value(perm);
+            }
+            writer.endArray();
+
+            writer.name("potentialContexts");
+            ContextSetJsonSerializer.writeContextSet(writer, this.potentialContexts);
+
+            writer.endObject();
+
+            // flush, but don't close the underlying stream
+            writer.flush();
+        }
+    }
+
+    public static CommandResult post(Payload payload, Sender sender, LuckPermsPlugin plugin) {
+        // upload the payload data to bytebin
         String pasteId;
         try {
-            pasteId = plugin.getBytebin().postContent(bytesOut.toByteArray(), AbstractHttpClient.JSON_TYPE, false).key();
+            pasteId = plugin.getBytebin().postContent(payload, AbstractHttpClient.JSON_TYPE, false).key();
         } catch (UnsuccessfulRequestException e) {
             Message.EDITOR_HTTP_REQUEST_FAILURE.send(sender, e.getResponse().code(), e.getResponse().message());
             return CommandResult.STATE_ERROR;
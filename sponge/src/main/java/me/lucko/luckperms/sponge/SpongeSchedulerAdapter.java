@@ -25,6 +25,10 @@
 
 package me.lucko.luckperms.sponge;
 
+import com.google.common.collect.ImmutableList;
+
+import me.lucko.luckperms.common.plugin.scheduler.InstrumentedExecutor;
+import me.lucko.luckperms.common.plugin.scheduler.IoThreadPool;
 import me.lucko.luckperms.common.plugin.scheduler.SchedulerAdapter;
 import me.lucko.luckperms.common.plugin.scheduler.SchedulerTask;
 import me.lucko.luckperms.common.util.Iterators;
@@ -33,6 +37,7 @@ import org.spongepowered.api.scheduler.Scheduler;
 import org.spongepowered.api.scheduler.SpongeExecutorService;
 import org.spongepowered.api.scheduler.Task;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -44,7 +49,8 @@ public class SpongeSchedulerAdapter implements SchedulerAdapter {
     
     private final Scheduler scheduler;
     private final SpongeExecutorService sync;
-    private final SpongeExecutorService async;
+    private final InstrumentedExecutor async;
+    private final IoThreadPool io;
     
     private final Set<Task> tasks = Collections.newSetFromMap(new WeakHashMap<>());
 
@@ -52,7 +58,8 @@ public class SpongeSchedulerAdapter implements SchedulerAdapter {
         this.bootstrap = bootstrap;
         this.scheduler = scheduler;
         this.sync = sync;
-        this.async = async;
+        this.async = new InstrumentedExecutor("worker", async);
+        this.io = new IoThreadPool();
     }
 
     @Override
@@ -60,6 +67,21 @@ public class SpongeSchedulerAdapter implements SchedulerAdapter {
         return this.async;
     }
 
+    @Override
+    public Executor io() {
+        return this.io.getExecutor();
+    }
+
+    @Override
+    public void setIoThreads(int threads) {
+        this.io.setThreads(threads);
+    }
+
+    @Override
+    public Collection<InstrumentedExecutor> getInstrumentedExecutors() {
+        return ImmutableList.of(this.async, this.io.getExecutor());
+    }
+
     @Override
     public Executor sync() {
         return this.sync;
@@ -107,6 +129,6 @@ public class SpongeSchedulerAdapter implements SchedulerAdapter {
 
     @Override
     public void shutdownExecutor() {
-        // do nothing
+        this.io.shutdown();
     }
 }
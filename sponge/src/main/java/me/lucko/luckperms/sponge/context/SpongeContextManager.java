@@ -30,12 +30,14 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import me.lucko.luckperms.common.context.ContextManager;
 import me.lucko.luckperms.common.context.QueryOptionsCache;
 import me.lucko.luckperms.common.context.QueryOptionsSupplier;
+import me.lucko.luckperms.common.context.contextset.ImmutableContextSetImpl;
 import me.lucko.luckperms.common.util.CaffeineFactory;
 import me.lucko.luckperms.sponge.LPSpongePlugin;
 
 import net.luckperms.api.context.ImmutableContextSet;
 import net.luckperms.api.query.QueryOptions;
 
+import org.spongepowered.api.Game;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.service.permission.Subject;
 
@@ -48,8 +50,11 @@ public class SpongeContextManager extends ContextManager<Subject, Player> {
             .expireAfterAccess(1, TimeUnit.MINUTES)
             .build(key -> new QueryOptionsCache<>(key, this));
 
+    private final LPSpongePlugin spongePlugin;
+
     public SpongeContextManager(LPSpongePlugin plugin) {
         super(plugin, Subject.class, Player.class);
+        this.spongePlugin = plugin;
     }
 
     @Override
@@ -74,6 +79,19 @@ public class SpongeContextManager extends ContextManager<Subject, Player> {
         }
     }
 
+    @Override
+    public QueryOptions getPredictedInitialQueryOptions() {
+        // players join into the default world
+        Game game = this.spongePlugin.getBootstrap().getGame();
+        if (!game.isServerAvailable()) {
+            return getStaticQueryOptions();
+        }
+
+        ImmutableContextSet.Builder context = new ImmutableContextSetImpl.BuilderImpl().addAll(getStaticContext());
+        WorldCalculator.calculate(this.spongePlugin, game.getServer().getDefaultWorldName(), context::add);
+        return formQueryOptions(context.build());
+    }
+
     @Override
     public QueryOptions formQueryOptions(Subject subject, ImmutableContextSet contextSet) {
         return formQueryOptions(contextSet);
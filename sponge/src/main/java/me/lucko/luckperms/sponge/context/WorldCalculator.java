@@ -65,12 +65,15 @@ public class WorldCalculator implements ContextCalculator<Subject> {
         }
 
         Player p = ((Player) source);
+        calculate(this.plugin, p.getWorld().getName(), consumer);
+    }
 
+    static void calculate(LPSpongePlugin plugin, String worldName, ContextConsumer consumer) {
         Set<String> seen = new HashSet<>();
-        String world = p.getWorld().getName().toLowerCase();
+        String world = worldName.toLowerCase();
         while (seen.add(world)) {
             consumer.accept(DefaultContextKeys.WORLD_KEY, world);
-            world = this.plugin.getConfiguration().get(ConfigKeys.WORLD_REWRITES).getOrDefault(world, world).toLowerCase();
+            world = plugin.getConfiguration().get(ConfigKeys.WORLD_REWRITES).getOrDefault(world, world).toLowerCase();
         }
     }
 
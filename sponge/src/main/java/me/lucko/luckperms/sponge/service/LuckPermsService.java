@@ -119,18 +119,21 @@ public class LuckPermsService implements LPPermissionService {
         this.collections.put("defaults", this.defaultSubjects);
 
         // load known collections
+        Map<String, PersistedCollection> savedCollections = new HashMap<>();
         for (String identifier : this.storage.getSavedCollections()) {
-            if (this.collections.containsKey(identifier.toLowerCase())) {
+            String id = identifier.toLowerCase();
+            if (this.collections.containsKey(id) || savedCollections.containsKey(id)) {
                 continue;
             }
+            savedCollections.put(id, new PersistedCollection(this, id));
+        }
 
-            // load data
-            PersistedCollection collection = new PersistedCollection(this, identifier.toLowerCase());
-            collection.loadAll();
+        // load data for each collection - the subject files within each
+        // collection are read in parallel
+        savedCollections.values().forEach(PersistedCollection::loadAll);
 
-            // cache in this instance
-            this.collections.put(collection.getIdentifier(), collection);
-        }
+        // cache in this instance
+        this.collections.putAll(savedCollections);
     }
 
     @Override
@@ -30,6 +30,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
+import me.lucko.luckperms.common.cache.BufferedRequest;
 import me.lucko.luckperms.common.cache.LoadingMap;
 import me.lucko.luckperms.common.context.contextset.ImmutableContextSetImpl;
 import me.lucko.luckperms.common.util.ImmutableCollectors;
@@ -45,11 +46,14 @@ import net.luckperms.api.util.Tristate;
 
 import org.spongepowered.api.service.permission.SubjectCollection;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 /**
@@ -78,11 +82,41 @@ public class PersistedCollection implements LPSubjectCollection {
      */
     private final Map<String, PersistedSubject> subjects = LoadingMap.of(s -> new PersistedSubject(getService(), this, s));
 
+    /**
+     * The subjects in this collection with changes waiting to be saved
+     */
+    private final Set<PersistedSubject> pendingSaves = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The save buffer instance for saving changes to disk
+     */
+    private final SaveBuffer saveBuffer;
+
     public PersistedCollection(LuckPermsService service, String identifier) {
         this.service = service;
         this.identifier = identifier;
         this.isDefaultsCollection = identifier.equals("defaults");
         this.spongeProxy = ProxyFactory.toSponge(this);
+        this.saveBuffer = new SaveBuffer();
+    }
+
+    /**
+     * Marks a subject in this collection as needing to be saved. Pending saves
+     * are written together, once changes stop being made.
+     *
+     * @param subject the subject
+     */
+    void scheduleSave(PersistedSubject subject) {
+        this.pendingSaves.add(subject);
+        this.saveBuffer.request();
+    }
+
+    private void flushPendingSaves() {
+        for (Iterator<PersistedSubject> it = this.pendingSaves.iterator(); it.hasNext(); ) {
+            PersistedSubject subject = it.next();
+            it.remove();
+            subject.doSave();
+        }
     }
 
     public void loadAll() {
@@ -203,4 +237,15 @@ public class PersistedCollection implements LPSubjectCollection {
         return this.service.getDefaultSubjects().getTypeDefaults(getIdentifier());
     }
 
+    private final class SaveBuffer extends BufferedRequest<Void> {
+        SaveBuffer() {
+            super(1, TimeUnit.SECONDS, PersistedCollection.this.service.getPlugin().getBootstrap().getScheduler());
+        }
+
+        @Override
+        protected Void perform() {
+            flushPendingSaves();
+            return null;
+        }
+    }
 }
@@ -25,8 +25,6 @@
 
 package me.lucko.luckperms.sponge.service.model.persisted;
 
-import me.lucko.luckperms.common.cache.BufferedRequest;
-import me.lucko.luckperms.common.plugin.LuckPermsPlugin;
 import me.lucko.luckperms.sponge.service.LuckPermsService;
 import me.lucko.luckperms.sponge.service.ProxyFactory;
 import me.lucko.luckperms.sponge.service.model.LPSubject;
@@ -42,7 +40,6 @@ import org.spongepowered.api.command.CommandSource;
 
 import java.io.IOException;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 /**
  * A simple persistable Subject implementation
@@ -66,15 +63,10 @@ public class PersistedSubject extends CalculatedSubject implements LPSubject {
 
     private ProxiedSubject spongeSubject = null;
 
-    /**
-     * The save buffer instance for saving changes to disk
-     */
-    private final SaveBuffer saveBuffer;
-
     /**
      * If a save is pending for this subject
      */
-    private boolean pendingSave = false;
+    private volatile boolean pendingSave = false;
 
     public PersistedSubject(LuckPermsService service, PersistedCollection parentCollection, String identifier) {
         super(service.getPlugin());
@@ -99,8 +91,6 @@ public class PersistedSubject extends CalculatedSubject implements LPSubject {
                 }
             }
         };
-
-        this.saveBuffer = new SaveBuffer(service.getPlugin());
     }
 
     /**
@@ -133,7 +123,7 @@ public class PersistedSubject extends CalculatedSubject implements LPSubject {
      */
     public void save() {
         this.pendingSave = true;
-        this.saveBuffer.request();
+        this.parentCollection.scheduleSave(this);
     }
 
     void doSave() {
@@ -183,16 +173,4 @@ public class PersistedSubject extends CalculatedSubject implements LPSubject {
     public Optional<CommandSource> getCommandSource() {
         return Optional.empty();
     }
-
-    private final class SaveBuffer extends BufferedRequest<Void> {
-        public SaveBuffer(LuckPermsPlugin plugin) {
-            super(1, TimeUnit.SECONDS, plugin.getBootstrap().getScheduler());
-        }
-
-        @Override
-        protected Void perform() {
-            doSave();
-            return null;
-        }
-    }
 }
@@ -37,12 +37,18 @@ import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -117,16 +123,27 @@ public class SubjectStorage {
     /**
      * Saves subject data to a specific file
      *
+     * <p>The data is written to a temporary file first, which then replaces
+     * the existing file, so a partially written file is never left behind.</p>
+     *
      * @param container the data
      * @param file the file
      * @throws IOException if the write fails
      */
     public void saveToFile(SubjectDataContainer container, Path file) throws IOException {
         MoreFiles.createDirectoriesIfNotExists(file.getParent());
-        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
-            GsonProvider.prettyPrinting().toJson(container.serialize(), writer);
+
+        Path tmpFile = file.resolveSibling(file.getFileName().toString() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8)) {
+            GsonProvider.normal().toJson(container.serialize(), writer);
             writer.flush();
         }
+
+        try {
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
     /**
@@ -141,22 +158,32 @@ public class SubjectStorage {
             return Collections.emptyMap();
         }
 
-        Map<String, SubjectDataContainer> holders = new HashMap<>();
+        List<Path> subjectFiles;
         try (Stream<Path> s = Files.list(collection)){
-            s.filter(p -> p.getFileName().toString().endsWith(".json"))
-                    .forEach(subjectFile -> {
-                        try {
-                            LoadedSubject sub = loadFromFile(subjectFile);
-                            if (sub != null) {
-                                holders.put(sub.identifier, sub.data);
-                            }
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    });
+            subjectFiles = s.filter(p -> p.getFileName().toString().endsWith(".json")).collect(Collectors.toList());
         } catch (IOException e) {
             e.printStackTrace();
+            return Collections.emptyMap();
         }
+
+        // read & parse the files in parallel, using the plugin's async executor
+        // instead of the common pool, which other plugins may block
+        Executor executor = this.service.getPlugin().getBootstrap().getScheduler().async();
+        Map<String, SubjectDataContainer> holders = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] futures = subjectFiles.stream()
+                .map(subjectFile -> CompletableFuture.runAsync(() -> {
+                    try {
+                        LoadedSubject sub = loadFromFile(subjectFile);
+                        if (sub != null) {
+                            holders.put(sub.identifier, sub.data);
+                        }
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
         return holders;
     }
 
@@ -194,7 +221,7 @@ public class SubjectStorage {
         String subjectName = fileName.substring(0, fileName.length() - ".json".length());
 
         try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
-            JsonObject data = GsonProvider.prettyPrinting().fromJson(reader, JsonObject.class);
+            JsonObject data = GsonProvider.normal().fromJson(reader, JsonObject.class);
             SubjectDataContainer model = SubjectDataContainer.deserialize(this.service, data);
             return new LoadedSubject(subjectName, model);
         } catch (Exception e) {
@@ -25,12 +25,16 @@
 
 package me.lucko.luckperms.velocity;
 
+import com.google.common.collect.ImmutableList;
 import com.velocitypowered.api.scheduler.ScheduledTask;
 
+import me.lucko.luckperms.common.plugin.scheduler.InstrumentedExecutor;
+import me.lucko.luckperms.common.plugin.scheduler.IoThreadPool;
 import me.lucko.luckperms.common.plugin.scheduler.SchedulerAdapter;
 import me.lucko.luckperms.common.plugin.scheduler.SchedulerTask;
 import me.lucko.luckperms.common.util.Iterators;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
 import java.util.WeakHashMap;
@@ -40,12 +44,14 @@ import java.util.concurrent.TimeUnit;
 public class VelocitySchedulerAdapter implements SchedulerAdapter {
     private final LPVelocityBootstrap bootstrap;
 
-    private final Executor executor;
+    private final InstrumentedExecutor executor;
+    private final IoThreadPool io;
     private final Set<ScheduledTask> tasks = Collections.newSetFromMap(new WeakHashMap<>());
 
     public VelocitySchedulerAdapter(LPVelocityBootstrap bootstrap) {
         this.bootstrap = bootstrap;
-        this.executor = r -> bootstrap.getProxy().getScheduler().buildTask(bootstrap, r).schedule();
+        this.executor = new InstrumentedExecutor("worker", r -> bootstrap.getProxy().getScheduler().buildTask(bootstrap, r).schedule());
+        this.io = new IoThreadPool();
     }
 
     @Override
@@ -53,6 +59,21 @@ public class VelocitySchedulerAdapter implements SchedulerAdapter {
         return this.executor;
     }
 
+    @Override
+    public Executor io() {
+        return this.io.getExecutor();
+    }
+
+    @Override
+    public void setIoThreads(int threads) {
+        this.io.setThreads(threads);
+    }
+
+    @Override
+    public Collection<InstrumentedExecutor> getInstrumentedExecutors() {
+        return ImmutableList.of(this.executor, this.io.getExecutor());
+    }
+
     @Override
     public Executor sync() {
         return this.executor;
@@ -86,6 +107,6 @@ public class VelocitySchedulerAdapter implements SchedulerAdapter {
 
     @Override
     public void shutdownExecutor() {
-        // do nothing
+        this.io.shutdown();
     }
 }